@@ -0,0 +1,119 @@
+package com.horatime.api.benchmark;
+
+import com.horatime.api.util.FuzzyLocationIndex;
+import com.horatime.api.util.LocationBloomFilter;
+import com.horatime.api.util.LocationMatcher;
+import com.horatime.api.util.TimezoneUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks da resolução de localidades.
+ *
+ * Os métodos "util*" usam o mapa embutido do TimezoneUtil. Os métodos "index*" e "linearScan*"
+ * usam um mapa sintético de tamanho {@code mapSize} (localidades reais + nomes gerados),
+ * comparando o índice de correspondência parcial com a varredura linear original.
+ * Os métodos "*FuzzyMiss" medem um texto sem correspondência na busca aproximada, com e sem
+ * a rejeição prévia pelo filtro de Bloom.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LocationLookupBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int mapSize;
+
+    private Map<String, String> syntheticMap;
+    private static final String JUNK = "xwkqjzvbnmplqyt";
+
+    private LocationMatcher matcher;
+    private FuzzyLocationIndex fuzzyIndex;
+    private LocationBloomFilter bloomFilter;
+
+    @Setup
+    public void setUp() {
+        syntheticMap = new HashMap<>();
+        for (String location : TimezoneUtil.getAvailableLocations()) {
+            syntheticMap.put(location, TimezoneUtil.getZoneIdForLocation(location).getId());
+        }
+        String[] zones = {"America/Sao_Paulo", "Europe/Paris", "Asia/Tokyo", "America/New_York"};
+        for (int i = 0; syntheticMap.size() < mapSize; i++) {
+            syntheticMap.put("cidade sintetica " + i, zones[i % zones.length]);
+        }
+        matcher = new LocationMatcher(syntheticMap);
+        fuzzyIndex = new FuzzyLocationIndex(syntheticMap);
+        bloomFilter = new LocationBloomFilter(syntheticMap.keySet());
+    }
+
+    @Benchmark
+    public ZoneId utilExactHit() {
+        return TimezoneUtil.getZoneIdForLocation("Paris");
+    }
+
+    @Benchmark
+    public ZoneId utilAccentVariant() {
+        return TimezoneUtil.getZoneIdForLocation("Sao Paulo");
+    }
+
+    @Benchmark
+    public ZoneId utilPartialHit() {
+        return TimezoneUtil.getZoneIdForLocation("paul");
+    }
+
+    @Benchmark
+    public ZoneId utilMiss() {
+        return TimezoneUtil.getZoneIdForLocation("LocalidadeInexistente");
+    }
+
+    @Benchmark
+    public ZoneId indexPartialHit() {
+        return matcher.findPartial("paul");
+    }
+
+    @Benchmark
+    public ZoneId indexMiss() {
+        return matcher.findPartial("localidadeinexistente");
+    }
+
+    @Benchmark
+    public FuzzyLocationIndex.Match indexFuzzyMiss() {
+        return fuzzyIndex.findClosest(JUNK, FuzzyLocationIndex.defaultMaxDistance(JUNK));
+    }
+
+    @Benchmark
+    public FuzzyLocationIndex.Match bloomFuzzyMiss() {
+        int maxDistance = FuzzyLocationIndex.defaultMaxDistance(JUNK);
+        return bloomFilter.mayMatchFuzzy(JUNK, maxDistance) ? fuzzyIndex.findClosest(JUNK, maxDistance) : null;
+    }
+
+    @Benchmark
+    public ZoneId linearScanPartialHit() {
+        return linearScan("paul");
+    }
+
+    @Benchmark
+    public ZoneId linearScanMiss() {
+        return linearScan("localidadeinexistente");
+    }
+
+    /**
+     * Varredura linear usada originalmente em getZoneIdForLocation (referência de comparação).
+     */
+    private ZoneId linearScan(String normalizedLocation) {
+        for (Map.Entry<String, String> entry : syntheticMap.entrySet()) {
+            if (entry.getKey().contains(normalizedLocation) || normalizedLocation.contains(entry.getKey())) {
+                try {
+                    return ZoneId.of(entry.getValue());
+                } catch (Exception e) {
+                    // Continuar procurando
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.horatime.api.benchmark;
+
+import com.horatime.api.util.MeetingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks da grade do planejador de reuniões (fusos × 30 dias).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MeetingPlannerBenchmark {
+
+    private static final String[] ALL_ZONES = {
+            "America/Sao_Paulo", "America/New_York", "America/Los_Angeles", "America/Chicago", "America/Denver",
+            "America/Mexico_City", "America/Santiago", "America/Argentina/Buenos_Aires", "Europe/London", "Europe/Paris",
+            "Europe/Berlin", "Europe/Moscow", "Africa/Cairo", "Africa/Johannesburg", "Asia/Dubai",
+            "Asia/Kolkata", "Asia/Singapore", "Asia/Tokyo", "Australia/Sydney", "Australia/Lord_Howe"
+    };
+
+    private static final int HOURS = 30 * 24;
+
+    @Param({"5", "20"})
+    public int zoneCount;
+
+    private ZoneId[] zones;
+    private Instant from;
+
+    @Setup
+    public void setUp() {
+        zones = Arrays.stream(ALL_ZONES).limit(zoneCount).map(ZoneId::of).toArray(ZoneId[]::new);
+        from = Instant.parse("2026-03-01T00:00:00Z");
+    }
+
+    @Benchmark
+    public MeetingPlanner.Plan segments() {
+        return MeetingPlanner.plan(zones, from, HOURS, 9 * 60, 18 * 60);
+    }
+
+    /**
+     * Abordagem ingênua: um ZonedDateTime por célula (referência de comparação).
+     */
+    @Benchmark
+    public int[][] zonedDateTimePerCell() {
+        int[][] grid = new int[zones.length][HOURS];
+        for (int z = 0; z < zones.length; z++) {
+            for (int h = 0; h < HOURS; h++) {
+                ZonedDateTime local = from.plusSeconds(h * 3600L).atZone(zones[z]);
+                grid[z][h] = local.getHour() * 100 + local.getMinute();
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,78 @@
+package com.horatime.api.benchmark;
+
+import com.horatime.api.util.TimezoneUtil;
+import com.horatime.api.util.TransitionTable;
+import com.horatime.api.util.ZoneOffsetCache;
+import com.horatime.api.util.ZoneDisplayNames;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.TextStyle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks do cálculo de hora local, offset e nome do fuso horário, e do intervalo de offset
+ * constante (tabela de transições compartilhada × regras do fuso).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TimeComputationBenchmark {
+
+    @Param({"America/Sao_Paulo", "Europe/Paris", "Asia/Tokyo"})
+    public String zone;
+
+    private ZoneId zoneId;
+    private long instant;
+
+    @Setup
+    public void setUp() {
+        zoneId = ZoneId.of(zone);
+        instant = Instant.parse("2031-07-01T12:00:00Z").getEpochSecond();
+        TransitionTable.of(zoneId);
+    }
+
+    @Benchmark
+    public void currentTimeAndOffset(Blackhole blackhole) {
+        blackhole.consume(TimezoneUtil.getCurrentTimeInZone(zoneId));
+        blackhole.consume(TimezoneUtil.getUtcOffset(zoneId));
+    }
+
+    /**
+     * Abordagem original: dois ZonedDateTime.now() por consulta (referência de comparação).
+     */
+    @Benchmark
+    public void zonedDateTimeTwice(Blackhole blackhole) {
+        blackhole.consume(ZonedDateTime.now(zoneId).toLocalDateTime());
+        blackhole.consume(ZonedDateTime.now(zoneId).getOffset().toString());
+    }
+
+    @Benchmark
+    public String timezoneName() {
+        return TimezoneUtil.getTimezoneName(zoneId);
+    }
+
+    /**
+     * Abordagem original: consulta ao provedor CLDR a cada chamada (referência de comparação).
+     */
+    @Benchmark
+    public String timezoneNameUncached() {
+        return zoneId.getDisplayName(TextStyle.FULL, ZoneDisplayNames.DEFAULT_LOCALE);
+    }
+
+    @Benchmark
+    public ZoneOffsetCache.Segment segmentFromTable() {
+        return ZoneOffsetCache.segmentAt(zoneId, instant);
+    }
+
+    /**
+     * Abordagem original: previousTransition/nextTransition/getOffset nas regras do fuso (referência de comparação).
+     */
+    @Benchmark
+    public ZoneOffsetCache.Segment segmentFromRules() {
+        return ZoneOffsetCache.segmentAt(zoneId.getRules(), instant);
+    }
+}
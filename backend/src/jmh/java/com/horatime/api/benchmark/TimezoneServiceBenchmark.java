@@ -0,0 +1,57 @@
+package com.horatime.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.horatime.api.cache.NegativeLookupCache;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.service.TimezoneService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da consulta completa no TimezoneService, incluindo a serialização JSON da resposta.
+ * Com negativeCache=false, "LocalidadeInexistente" mede o caminho completo da falha; com true,
+ * mede a resposta servida pelo cache de falhas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TimezoneServiceBenchmark {
+
+    @Param({"São Paulo", "paul", "LocalidadeInexistente"})
+    public String location;
+
+    @Param({"false", "true"})
+    public boolean negativeCache;
+
+    private TimezoneService timezoneService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        TimezoneMetrics metrics = new TimezoneMetrics(new SimpleMeterRegistry());
+        NegativeLookupCache cache = new NegativeLookupCache(metrics);
+        ReflectionTestUtils.setField(cache, "enabled", negativeCache);
+        timezoneService = new TimezoneService(metrics, cache);
+        // Mesma configuração do ObjectMapper do Spring Boot para java.time
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public TimezoneResponse getCurrentTime() {
+        return timezoneService.getCurrentTime(location);
+    }
+
+    @Benchmark
+    public byte[] getCurrentTimeAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(timezoneService.getCurrentTime(location));
+    }
+}
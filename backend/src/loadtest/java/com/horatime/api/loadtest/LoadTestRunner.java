@@ -0,0 +1,264 @@
+package com.horatime.api.loadtest;
+
+import com.horatime.api.HoraTimeApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Gerador de carga HTTP de ponta a ponta para a API HoraTime.
+ *
+ * Sobe a aplicação em uma porta aleatória (ou usa --url para um servidor externo) e mantém
+ * {@code concurrency} clientes em laço fechado contra /api/timezone, /health e /info.
+ * As localidades seguem uma distribuição Zipf (poucas cidades concentram a maior parte do tráfego),
+ * com uma fração de localidades inexistentes. Ao final, imprime vazão e percentis de latência
+ * (HdrHistogram) por endpoint.
+ *
+ * Opções (--chave=valor): concurrency (64), duration em segundos (30), warmup em segundos (5),
+ * mix (timezone:90,health:5,info:5), zipf (1.1), misses (0.1), url (vazio = sobe a aplicação).
+ */
+public final class LoadTestRunner {
+
+    /**
+     * Localidades em ordem de popularidade (a primeira é a mais consultada). Todas existem no mapa
+     * de TimezoneUtil; as pesquisas sem resultado vêm apenas de --misses.
+     */
+    private static final String[] LOCATIONS = {
+            "São Paulo", "Rio de Janeiro", "Nova York", "Londres", "Paris", "Tóquio", "Berlim",
+            "Brasília", "Rio", "Dubai", "Singapura", "Hong Kong", "Sydney", "Los Angeles",
+            "Chicago", "Moscou", "México", "Buenos Aires", "Santiago", "Cairo", "Salvador",
+            "Recife", "Fortaleza", "Manaus", "Belém", "Cuiabá", "Denver", "Canadá", "Índia",
+            "Johannesburgo"
+    };
+
+    private static final String[] ENDPOINTS = {"timezone", "health", "info"};
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        double zipfExponent = Double.parseDouble(options.getOrDefault("zipf", "1.1"));
+        double missRatio = Double.parseDouble(options.getOrDefault("misses", "0.1"));
+        int[] mix = parseMix(options.getOrDefault("mix", "timezone:90,health:5,info:5"));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("url");
+        if (baseUrl == null || baseUrl.isBlank()) {
+            // Todos os workers saem do mesmo endereço: o limite por cliente mediria só a si mesmo
+            context = SpringApplication.run(HoraTimeApplication.class,
+                    "--server.port=0", "--logging.level.com.horatime.api=WARN",
+                    "--horatime.admission.enabled=false");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        System.out.printf("Alvo: %s | concorrência: %d | aquecimento: %ds | duração: %ds | zipf: %.2f | misses: %.0f%%%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds, zipfExponent, missRatio * 100);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        double[] zipfCdf = zipfCdf(LOCATIONS.length, zipfExponent);
+
+        // Aquecimento (JIT, caches) sem registrar medições
+        run(client, baseUrl, concurrency, warmupSeconds, mix, zipfCdf, missRatio, null, null);
+
+        Histogram[] histograms = new Histogram[ENDPOINTS.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram(TimeUnit.SECONDS.toNanos(60), 3);
+        }
+        AtomicLongArray statusCounts = new AtomicLongArray(6);
+        long start = System.nanoTime();
+        run(client, baseUrl, concurrency, durationSeconds, mix, zipfCdf, missRatio, histograms, statusCounts);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        report(histograms, statusCounts, elapsedSeconds);
+
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Executa os clientes em laço fechado durante o tempo informado.
+     */
+    private static void run(HttpClient client, String baseUrl, int concurrency, int seconds, int[] mix,
+                            double[] zipfCdf, double missRatio, Histogram[] histograms,
+                            AtomicLongArray statusCounts) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<Histogram[]> perThread = new ArrayList<>();
+
+        for (int t = 0; t < concurrency; t++) {
+            Histogram[] local = new Histogram[ENDPOINTS.length];
+            for (int i = 0; i < local.length; i++) {
+                local[i] = new Histogram(TimeUnit.SECONDS.toNanos(60), 3);
+            }
+            perThread.add(local);
+            SplittableRandom random = new SplittableRandom(t);
+            Thread worker = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        int endpoint = pickEndpoint(random, mix);
+                        HttpRequest request = HttpRequest.newBuilder(uri(baseUrl, endpoint, random, zipfCdf, missRatio))
+                                .header("Accept", "application/json")
+                                .header("Accept-Encoding", "gzip")
+                                .timeout(Duration.ofSeconds(10))
+                                .GET()
+                                .build();
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = 0;
+                        }
+                        local[endpoint].recordValue(Math.min(System.nanoTime() - begin, local[endpoint].getHighestTrackableValue()));
+                        if (statusCounts != null) {
+                            statusCounts.incrementAndGet(status == 0 ? 0 : Math.min(status / 100, 5));
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + t);
+            worker.start();
+        }
+        done.await();
+
+        if (histograms != null) {
+            for (Histogram[] local : perThread) {
+                for (int i = 0; i < histograms.length; i++) {
+                    histograms[i].add(local[i]);
+                }
+            }
+        }
+    }
+
+    private static URI uri(String baseUrl, int endpoint, SplittableRandom random, double[] zipfCdf, double missRatio) {
+        if (endpoint == 1) {
+            return URI.create(baseUrl + "/api/timezone/health");
+        }
+        if (endpoint == 2) {
+            return URI.create(baseUrl + "/api/timezone/info");
+        }
+        String location;
+        if (random.nextDouble() < missRatio) {
+            location = "inexistente-" + random.nextInt(10_000);
+        } else {
+            location = LOCATIONS[pickZipf(random, zipfCdf)];
+        }
+        return URI.create(baseUrl + "/api/timezone?location=" + URLEncoder.encode(location, StandardCharsets.UTF_8));
+    }
+
+    private static int pickEndpoint(SplittableRandom random, int[] mix) {
+        int total = mix[0] + mix[1] + mix[2];
+        int r = random.nextInt(total);
+        if (r < mix[0]) {
+            return 0;
+        }
+        return r < mix[0] + mix[1] ? 1 : 2;
+    }
+
+    private static int pickZipf(SplittableRandom random, double[] cdf) {
+        double u = random.nextDouble();
+        int lo = 0;
+        int hi = cdf.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cdf[mid] < u) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static void report(Histogram[] histograms, AtomicLongArray statusCounts, double elapsedSeconds) {
+        Histogram total = new Histogram(TimeUnit.SECONDS.toNanos(60), 3);
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n", "endpoint", "req", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (int i = 0; i < histograms.length; i++) {
+            printRow(ENDPOINTS[i], histograms[i], elapsedSeconds);
+            total.add(histograms[i]);
+        }
+        printRow("total", total, elapsedSeconds);
+        System.out.printf("%nStatus: 2xx=%d 3xx=%d 4xx=%d 5xx=%d falhas=%d%n",
+                statusCounts.get(2), statusCounts.get(3), statusCounts.get(4), statusCounts.get(5), statusCounts.get(0));
+    }
+
+    private static void printRow(String name, Histogram histogram, double elapsedSeconds) {
+        System.out.printf("%-10s %10d %10.0f %10.3f %10.3f %10.3f %10.3f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else {
+                throw new IllegalArgumentException("Opção inválida (use --chave=valor): " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static int[] parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.split(":");
+            weights.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+        int[] result = new int[ENDPOINTS.length];
+        for (int i = 0; i < ENDPOINTS.length; i++) {
+            result[i] = weights.getOrDefault(ENDPOINTS[i], 0);
+        }
+        if (result[0] + result[1] + result[2] <= 0) {
+            throw new IllegalArgumentException("Mix inválido: " + mix);
+        }
+        return result;
+    }
+}
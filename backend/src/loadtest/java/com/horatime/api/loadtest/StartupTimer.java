@@ -0,0 +1,181 @@
+package com.horatime.api.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Mede o tempo de inicialização e a latência da primeira requisição de cada variante da aplicação.
+ *
+ * Para cada variante disponível, inicia um processo novo numa porta livre, mede o tempo até o
+ * primeiro 200 de /api/timezone/health, a latência da primeira e da segunda consulta a
+ * /api/timezone e a memória residente (VmRSS, apenas Linux) nesse momento, e encerra o processo.
+ * Imprime a mediana de cada medida.
+ *
+ * Variantes: jar (target/horatime-backend-1.0.0.jar), aot-cds (gerada por mvn -Paot package)
+ * e native (gerada por mvn -Pnative native:compile); as ausentes são ignoradas.
+ *
+ * Opções (--chave=valor): runs (5), variants (todas as disponíveis, separadas por vírgula),
+ * timeout em segundos por execução (60).
+ */
+public final class StartupTimer {
+
+    private static final Path JAR = Path.of("target/horatime-backend-1.0.0.jar");
+    private static final Path CDS_DIR = Path.of("target/cds");
+    private static final Path NATIVE = Path.of("target/horatime-backend");
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Medidas de uma execução, em milissegundos (rss em MB).
+     */
+    private record Sample(double readyMs, double firstRequestMs, double secondRequestMs, double rssMb) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("timeout", "60")));
+
+        Map<String, List<String>> variants = availableVariants();
+        if (options.containsKey("variants")) {
+            variants.keySet().retainAll(Arrays.asList(options.get("variants").split(",")));
+        }
+        if (variants.isEmpty()) {
+            throw new IllegalStateException("Nenhuma variante encontrada; execute mvn package (ou -Paot package) antes");
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        System.out.printf("%-10s %5s %12s %14s %14s %9s%n", "variante", "runs", "pronto (ms)", "1a req. (ms)", "2a req. (ms)", "RSS (MB)");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Sample> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(measure(client, variant.getValue(), timeoutNanos));
+            }
+            System.out.printf("%-10s %5d %12.0f %14.2f %14.2f %9.0f%n",
+                    variant.getKey(), runs,
+                    median(samples, Sample::readyMs),
+                    median(samples, Sample::firstRequestMs),
+                    median(samples, Sample::secondRequestMs),
+                    median(samples, Sample::rssMb));
+        }
+    }
+
+    private static Map<String, List<String>> availableVariants() {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        if (Files.exists(JAR)) {
+            variants.put("jar", List.of(java, "-jar", JAR.toString()));
+        }
+        if (Files.exists(CDS_DIR.resolve("application.jsa"))) {
+            variants.put("aot-cds", List.of(java, "-XX:SharedArchiveFile=" + CDS_DIR.resolve("application.jsa"),
+                    "-Dspring.aot.enabled=true", "-jar", CDS_DIR.resolve(JAR.getFileName()).toString()));
+        }
+        if (Files.isExecutable(NATIVE)) {
+            variants.put("native", List.of(NATIVE.toString()));
+        }
+        return variants;
+    }
+
+    private static Sample measure(HttpClient client, List<String> command, long timeoutNanos) throws Exception {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        String base = "http://localhost:" + port + "/api/timezone";
+        HttpRequest health = HttpRequest.newBuilder(URI.create(base + "/health")).build();
+        HttpRequest lookup = HttpRequest.newBuilder(URI.create(base + "?location=Paris")).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (true) {
+                if (System.nanoTime() - start > timeoutNanos || !process.isAlive()) {
+                    throw new IllegalStateException("A aplicação não ficou pronta: " + String.join(" ", fullCommand));
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Servidor ainda não está aceitando conexões
+                }
+                Thread.sleep(5);
+            }
+            double readyMs = (System.nanoTime() - start) / 1e6;
+            double firstMs = timeRequest(client, lookup);
+            double secondMs = timeRequest(client, lookup);
+            return new Sample(readyMs, firstMs, secondMs, rssMb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static double timeRequest(HttpClient client, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Consulta falhou com status " + response.statusCode());
+        }
+        return elapsedMs;
+    }
+
+    private static double rssMb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024.0;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Fora do Linux
+        }
+        return Double.NaN;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(List<Sample> samples, ToDoubleFunction<Sample> metric) {
+        double[] values = samples.stream().mapToDouble(metric).sorted().toArray();
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else {
+                throw new IllegalArgumentException("Opção inválida (use --chave=valor): " + arg);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,113 @@
+package com.horatime.api.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controle de admissão das rotas /api/: limite por cliente (429) e limite global de
+ * concorrência (503). As recusas são respondidas no próprio filtro, sem passar pelo
+ * controller. O health check não é limitado.
+ *
+ * O cliente é identificado pelo cabeçalho de chave de API (horatime.admission.api-key-header),
+ * se a chave estiver em horatime.admission.api-keys, ou pelo endereço remoto. Atrás de um proxy confiável
+ * (horatime.admission.trusted-proxies, ex: o frontend PHP), vale o endereço informado em X-Forwarded-For.
+ * No modo reativo, o mesmo controle é feito pelo {@code ReactiveAdmissionFilter} (src/reactive/java).
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    static final byte[] RATE_LIMITED = "{\"status\":\"ERROR\",\"message\":\"Limite de requisições excedido\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    static final byte[] OVERLOADED = "{\"status\":\"ERROR\",\"message\":\"Serviço sobrecarregado, tente novamente\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    @Autowired
+    private ClientRateLimiter rateLimiter;
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${horatime.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${horatime.admission.api-key-header:X-API-Key}")
+    private String apiKeyHeader;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || !uri.startsWith("/api/") || uri.equals("/api/timezone/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = rateLimiter.identify(request.getHeader(apiKeyHeader), request.getRemoteAddr(),
+                forwardedFor(Collections.list(request.getHeaders(FORWARDED_FOR))));
+        long wait = rateLimiter.tryAcquire(client, System.nanoTime());
+        if (wait > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(wait), RATE_LIMITED);
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, OVERLOADED);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    /**
+     * Converte a espera do limitador em segundos para o Retry-After (arredondada para cima, no mínimo 1).
+     */
+    /**
+     * Junta as ocorrências do cabeçalho X-Forwarded-For numa única lista separada por vírgulas.
+     *
+     * @param values Valores do cabeçalho, na ordem recebida.
+     * @return Lista de endereços, ou null se o cabeçalho não foi enviado.
+     */
+    static String forwardedFor(List<String> values) {
+        return values == null || values.isEmpty() ? null : String.join(",", values);
+    }
+
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        // A recusa não passa pelo tratamento de CORS do Spring MVC; sem este cabeçalho o navegador veria um erro de CORS
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,211 @@
+package com.horatime.api.admission;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Limite de requisições por cliente (token bucket na forma GCRA).
+ *
+ * O estado de cada cliente é um único AtomicLong com o "instante teórico de chegada" (TAT):
+ * cada requisição avança o TAT em 1/rate segundo, e ela é aceita enquanto o TAT não passar
+ * de agora + burst/rate. A atualização é um compare-and-set, sem bloqueio.
+ *
+ * O cliente é a chave de API apenas quando ela consta em horatime.admission.api-keys; qualquer
+ * outra chave é ignorada e o cliente passa a ser o endereço remoto. Assim, chaves inventadas não
+ * criam buckets novos nem escapam do limite do próprio endereço.
+ *
+ * Requisições vindas de um proxy confiável (horatime.admission.trusted-proxies, ex: o frontend
+ * PHP na mesma máquina) são atribuídas ao endereço informado em X-Forwarded-For; de qualquer outro
+ * remetente o cabeçalho é ignorado, para que um cliente não escolha o próprio bucket.
+ *
+ * A memória é limitada: acima de max-clients, os clientes cujo bucket já está cheio (TAT no
+ * passado, equivalentes a um cliente novo) são removidos. Se a tabela continuar cheia, os
+ * clientes novos usam um de {@link #OVERFLOW_STRIPES} buckets de reserva, escolhido pelo hash
+ * do cliente: um cliente só divide o limite com os poucos que caem no mesmo bucket.
+ */
+@Component
+public class ClientRateLimiter {
+
+    /**
+     * Buckets de reserva usados com a tabela de clientes cheia.
+     */
+    static final int OVERFLOW_STRIPES = 1024;
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.admission.rate:100}")
+    private double rate;
+
+    @Value("${horatime.admission.burst:200}")
+    private int burst;
+
+    @Value("${horatime.admission.max-clients:100000}")
+    private int maxClients;
+
+    /**
+     * Chaves de API aceitas como identidade do cliente (separadas por vírgula); vazio = apenas endereços.
+     */
+    @Value("${horatime.admission.api-keys:}")
+    private String[] apiKeys = new String[0];
+
+    /**
+     * Endereços de proxies cujo X-Forwarded-For é aceito (separados por vírgula); vazio = nenhum.
+     */
+    @Value("${horatime.admission.trusted-proxies:127.0.0.1,::1,0:0:0:0:0:0:0:1}")
+    private String[] trustedProxies = new String[0];
+
+    private Set<String> allowedKeys = Set.of();
+    private Set<String> trustedAddresses = Set.of();
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong[] overflowBuckets = new AtomicLong[OVERFLOW_STRIPES];
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder limited = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    /**
+     * @param metrics Onde são publicadas as recusas, o uso dos buckets de reserva e a quantidade de clientes.
+     */
+    public ClientRateLimiter(TimezoneMetrics metrics) {
+        this.metrics = metrics;
+        for (int i = 0; i < OVERFLOW_STRIPES; i++) {
+            overflowBuckets[i] = new AtomicLong(Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Carrega as chaves aceitas e publica os contadores do limitador.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        allowedKeys = Arrays.stream(apiKeys).map(String::trim).filter(key -> !key.isEmpty()).collect(Collectors.toUnmodifiableSet());
+        trustedAddresses = Arrays.stream(trustedProxies).map(String::trim).filter(address -> !address.isEmpty()).collect(Collectors.toUnmodifiableSet());
+        metrics.registerFunctionCounter("horatime.admission.rate_limited", "Requisições recusadas pelo limite por cliente", limited, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.admission.overflowed", "Requisições de clientes novos contadas nos buckets de reserva", overflowed, LongAdder::sum);
+        metrics.registerGauge("horatime.admission.clients", "Clientes com estado no limitador", buckets::size);
+    }
+
+    /**
+     * Identifica o cliente de uma requisição.
+     *
+     * @param apiKey Valor do cabeçalho de chave de API (pode ser null).
+     * @param remoteAddress Endereço remoto da requisição.
+     * @param forwardedFor Valor do cabeçalho X-Forwarded-For (pode ser null).
+     * @return "key:" seguido da chave, se ela for aceita; caso contrário, o endereço do cliente.
+     */
+    public String identify(String apiKey, String remoteAddress, String forwardedFor) {
+        if (apiKey != null && allowedKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return clientAddress(remoteAddress, forwardedFor);
+    }
+
+    /**
+     * Resolve o endereço do cliente atrás de proxies confiáveis.
+     * X-Forwarded-For é lido da direita para a esquerda (cada proxy acrescenta o endereço que
+     * o contatou), pulando os proxies confiáveis; o primeiro endereço restante é o cliente.
+     */
+    private String clientAddress(String remoteAddress, String forwardedFor) {
+        if (forwardedFor == null || !trustedAddresses.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String client = remoteAddress;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!trustedAddresses.contains(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Consome uma ficha do bucket do cliente.
+     *
+     * @param client Identificador do cliente ({@link #identify}).
+     * @param nowNanos Relógio monotônico (System.nanoTime()).
+     * @return 0 se a requisição foi aceita; caso contrário, nanossegundos até haver uma ficha disponível.
+     */
+    public long tryAcquire(String client, long nowNanos) {
+        long interval = (long) (1_000_000_000L / rate);
+        long tolerance = interval * burst;
+        AtomicLong tat = bucketFor(client, nowNanos);
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + interval;
+            long wait = next - nowNanos - tolerance;
+            if (wait > 0) {
+                limited.increment();
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Quantidade de clientes com estado na tabela.
+     *
+     * @return Número de buckets.
+     */
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String client, long nowNanos) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            sweep(nowNanos);
+            if (buckets.size() >= maxClients) {
+                overflowed.increment();
+                return overflowBuckets[spread(client.hashCode()) & (OVERFLOW_STRIPES - 1)];
+            }
+        }
+        return buckets.computeIfAbsent(client, key -> new AtomicLong(nowNanos));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Remove os clientes com o bucket cheio. Apenas uma thread varre por vez, no máximo uma vez
+     * por segundo (com a tabela cheia de clientes ativos, varrer a cada cliente novo seria inútil).
+     */
+    private void sweep(long nowNanos) {
+        long previous = lastSweep.get();
+        if (nowNanos - previous < SWEEP_INTERVAL_NANOS && previous != Long.MIN_VALUE) {
+            return;
+        }
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastSweep.set(nowNanos);
+            buckets.values().removeIf(tat -> tat.get() <= nowNanos);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
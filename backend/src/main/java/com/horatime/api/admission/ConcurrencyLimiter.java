@@ -0,0 +1,68 @@
+package com.horatime.api.admission;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limite global de requisições em processamento.
+ * Quando todas as permissões estão em uso, a requisição é recusada na hora (sem fila),
+ * para que a latência das requisições aceitas não cresça com a sobrecarga.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final TimezoneMetrics metrics;
+
+    /**
+     * Máximo de requisições simultâneas; 0 desativa o limite.
+     */
+    @Value("${horatime.admission.max-concurrent:256}")
+    private int maxConcurrent;
+
+    private Semaphore permits;
+    private final LongAdder shed = new LongAdder();
+
+    /**
+     * @param metrics Onde são publicadas as recusas e as requisições em processamento.
+     */
+    public ConcurrencyLimiter(TimezoneMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        permits = new Semaphore(Math.max(maxConcurrent, 0));
+        metrics.registerFunctionCounter("horatime.admission.shed", "Requisições recusadas pelo limite global de concorrência", shed, LongAdder::sum);
+        metrics.registerGauge("horatime.admission.in_flight", "Requisições em processamento", () -> maxConcurrent - permits.availablePermits());
+    }
+
+    /**
+     * Tenta reservar uma permissão, sem esperar.
+     *
+     * @return true se a requisição pode prosseguir (chamar {@link #release()} ao terminar).
+     */
+    public boolean tryAcquire() {
+        if (maxConcurrent <= 0) {
+            return true;
+        }
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        shed.increment();
+        return false;
+    }
+
+    /**
+     * Devolve a permissão reservada por {@link #tryAcquire()}.
+     */
+    public void release() {
+        if (maxConcurrent > 0) {
+            permits.release();
+        }
+    }
+}
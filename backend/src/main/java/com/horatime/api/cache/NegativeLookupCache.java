@@ -0,0 +1,144 @@
+package com.horatime.api.cache;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache limitado de pesquisas recentes que não encontraram localidade.
+ *
+ * Tráfego de robôs e de erros de digitação repete os mesmos textos; depois da primeira falha,
+ * as seguintes são respondidas com uma consulta a um mapa, sem busca parcial nem aproximada.
+ * As entradas ficam em duas gerações (LRU aproximado): quando a atual enche metade do limite,
+ * ela passa a ser a anterior e a anterior é descartada; um acerto na geração anterior promove
+ * a entrada. Todas as entradas pertencem a uma versão dos dados de localidades
+ * ({@link TimezoneUtil#getDataVersion()}) e são descartadas quando a versão muda.
+ */
+@Component
+public class NegativeLookupCache {
+
+    /**
+     * Textos maiores que isso não são guardados (limita a memória ocupada por entradas forjadas).
+     */
+    private static final int MAX_KEY_LENGTH = 256;
+
+    /**
+     * Gerações de uma versão dos dados. O valor indica se a falha foi confirmada também pela busca aproximada.
+     */
+    private record Generations(String dataVersion,
+                               ConcurrentHashMap<String, Boolean> current,
+                               ConcurrentHashMap<String, Boolean> previous) {
+
+        Generations(String dataVersion) {
+            this(dataVersion, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.negative-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${horatime.negative-cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    private final AtomicReference<Generations> state = new AtomicReference<>(new Generations(null));
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param metrics Onde são publicados os acertos, os descartes e a quantidade de entradas.
+     */
+    public NegativeLookupCache(TimezoneMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Publica os contadores do cache como métricas.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        metrics.registerFunctionCounter("horatime.negative-cache.hits", "Pesquisas rejeitadas pelo cache de falhas", hits, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.negative-cache.invalidations", "Descartes por mudança dos dados de localidades", invalidations, LongAdder::sum);
+        metrics.registerGauge("horatime.negative-cache.entries", "Falhas guardadas", () -> {
+            Generations generations = state.get();
+            return generations.current().size() + generations.previous().size();
+        });
+    }
+
+    /**
+     * Indica se a pesquisa já falhou com os dados atuais. Uma falha com busca aproximada
+     * também vale para a pesquisa sem ela, mas não o contrário.
+     *
+     * @param normalizedLocation Texto normalizado com {@link TimezoneUtil#normalizeLocation(String)}.
+     * @param fuzzy Se a busca aproximada está habilitada.
+     * @return true se a pesquisa certamente não encontra localidade.
+     */
+    public boolean isKnownMiss(String normalizedLocation, boolean fuzzy) {
+        if (!enabled) {
+            return false;
+        }
+        Generations generations = generationsFor(TimezoneUtil.getDataVersion());
+        Boolean fuzzyMiss = generations.current().get(normalizedLocation);
+        if (fuzzyMiss == null) {
+            fuzzyMiss = generations.previous().get(normalizedLocation);
+            if (fuzzyMiss == null) {
+                return false;
+            }
+            store(generations, normalizedLocation, fuzzyMiss);
+        }
+        if (fuzzy && !fuzzyMiss) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Registra uma pesquisa sem resultado.
+     *
+     * @param normalizedLocation Texto normalizado com {@link TimezoneUtil#normalizeLocation(String)}.
+     * @param fuzzy Se a busca aproximada também foi feita.
+     * @param dataVersion Versão dos dados lida antes da pesquisa; se os dados mudaram desde então, a falha é descartada.
+     */
+    public void recordMiss(String normalizedLocation, boolean fuzzy, String dataVersion) {
+        if (!enabled || normalizedLocation.length() > MAX_KEY_LENGTH) {
+            return;
+        }
+        Generations generations = generationsFor(TimezoneUtil.getDataVersion());
+        if (!generations.dataVersion().equals(dataVersion)) {
+            return;
+        }
+        store(generations, normalizedLocation, fuzzy);
+    }
+
+    private void store(Generations generations, String normalizedLocation, boolean fuzzy) {
+        generations.current().merge(normalizedLocation, fuzzy, Boolean::logicalOr);
+        if (generations.current().size() >= Math.max(1, maxEntries / 2)) {
+            // A geração atual passa a ser a anterior; a anterior é descartada
+            state.compareAndSet(generations,
+                    new Generations(generations.dataVersion(), new ConcurrentHashMap<>(), generations.current()));
+        }
+    }
+
+    private Generations generationsFor(String dataVersion) {
+        Generations generations = state.get();
+        if (dataVersion.equals(generations.dataVersion())) {
+            return generations;
+        }
+        Generations fresh = new Generations(dataVersion);
+        if (state.compareAndSet(generations, fresh)) {
+            if (generations.dataVersion() != null) {
+                invalidations.increment();
+            }
+            return fresh;
+        }
+        return state.get();
+    }
+}
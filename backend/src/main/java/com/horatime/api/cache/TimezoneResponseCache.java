@@ -0,0 +1,258 @@
+package com.horatime.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.CacheStats;
+import com.horatime.api.model.TimezoneResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Cache de respostas já serializadas em JSON, válidas durante um segundo.
+ *
+ * A hora das respostas tem precisão de segundos, então dentro do mesmo segundo a resposta
+ * para uma mesma pesquisa é idêntica byte a byte. As entradas são agrupadas por segundo:
+ * quando o relógio avança, a geração anterior é descartada de uma só vez. Dentro de um
+ * segundo, o total de bytes é limitado por horatime.cache.max-bytes; respostas que não
+ * cabem no orçamento são servidas normalmente, mas não são armazenadas.
+ */
+@Slf4j
+@Component
+public class TimezoneResponseCache {
+
+    /**
+     * Resposta serializada.
+     *
+     * @param status Status da TimezoneResponse ("SUCCESS", "NOT_FOUND"...).
+     * @param body JSON já codificado em UTF-8.
+     * @param etag ETag forte derivado do corpo (entre aspas, pronto para o cabeçalho).
+     * @param matchPath Caminho de resolução da localidade (null se a resposta não veio de uma busca).
+     */
+    public record CachedResponse(String status, byte[] body, String etag, TimezoneMetrics.MatchPath matchPath) {
+    }
+
+    private record Key(String location, boolean fuzzy, int localeIndex, ResponseFormat format) {
+    }
+
+    /**
+     * Entradas válidas para um único segundo.
+     */
+    private static final class Generation {
+        private final long second;
+        private final ConcurrentHashMap<Key, CachedResponse> entries = new ConcurrentHashMap<>();
+        private final AtomicLong bytes = new AtomicLong();
+
+        private Generation(long second) {
+            this.second = second;
+        }
+    }
+
+    private final Map<ResponseFormat, ObjectMapper> binaryMappers = new ConcurrentHashMap<>();
+
+    /**
+     * Custo aproximado de uma entrada além do corpo (chave, registro e nó do mapa).
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final ObjectMapper objectMapper;
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${horatime.cache.max-bytes:4194304}")
+    private long maxBytes;
+
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation(Long.MIN_VALUE));
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param objectMapper Serializador JSON configurado pelo Spring (base dos codificadores binários).
+     * @param metrics Métricas do pipeline de consulta.
+     */
+    public TimezoneResponseCache(ObjectMapper objectMapper, TimezoneMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Publica os contadores do cache como métricas.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        metrics.registerFunctionCounter("horatime.cache.hits", "Respostas servidas pelo cache", hits, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.cache.misses", "Respostas calculadas", misses, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.cache.rejected", "Respostas não armazenadas por falta de espaço", rejected, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.cache.evictions", "Entradas descartadas na virada de segundo", evictions, LongAdder::sum);
+        metrics.registerGauge("horatime.cache.bytes", "Bytes ocupados pela geração atual", () -> current.get().bytes.get());
+    }
+
+    /**
+     * Obtém a resposta serializada de uma pesquisa, calculando-a apenas na primeira vez em cada segundo.
+     *
+     * @param location Texto pesquisado.
+     * @param fuzzy Se a busca aproximada está habilitada.
+     * @param now Instante usado para calcular a resposta (define o segundo da entrada).
+     * @param loader Calcula a resposta para o instante informado.
+     * @return Resposta serializada.
+     */
+    public CachedResponse get(String location, boolean fuzzy, Instant now, Supplier<TimezoneResponse> loader) {
+        return get(location, fuzzy, -1, ResponseFormat.JSON, now, loader);
+    }
+
+    /**
+     * Obtém a resposta serializada de uma pesquisa num idioma, calculando-a apenas na primeira vez em cada segundo.
+     * O idioma e o formato fazem parte da chave: a mesma localidade em idiomas ou formatos
+     * diferentes gera entradas distintas.
+     *
+     * @param location Texto pesquisado.
+     * @param fuzzy Se a busca aproximada está habilitada.
+     * @param localeIndex Índice do idioma dos nomes do fuso (-1 = sem nomes).
+     * @param format Codificação da resposta (JSON, CBOR ou Smile).
+     * @param now Instante usado para calcular a resposta (define o segundo da entrada).
+     * @param loader Calcula a resposta para o instante informado.
+     * @return Resposta serializada.
+     */
+    public CachedResponse get(String location, boolean fuzzy, int localeIndex, ResponseFormat format, Instant now,
+                              Supplier<TimezoneResponse> loader) {
+        if (!enabled || location == null) {
+            return encode(loader.get(), format);
+        }
+
+        Generation generation = generationFor(now.getEpochSecond());
+        if (generation == null) {
+            // Instante anterior à geração atual (threads com leituras de relógio fora de ordem)
+            return encode(loader.get(), format);
+        }
+
+        Key key = new Key(location, fuzzy, localeIndex, format);
+        CachedResponse cached = generation.entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            // O loader não roda num acerto: conta o caminho de resolução guardado com a resposta
+            if (cached.matchPath() != null) {
+                metrics.recordMatch(cached.matchPath());
+            }
+            return cached;
+        }
+
+        misses.increment();
+        CachedResponse response = encode(loader.get(), format);
+        if ("ERROR".equals(response.status())) {
+            // Falha interna: não é repetida para as demais requisições do segundo
+            return response;
+        }
+        long size = response.body().length + 2L * location.length() + ENTRY_OVERHEAD;
+        if (generation.bytes.addAndGet(size) > maxBytes) {
+            generation.bytes.addAndGet(-size);
+            rejected.increment();
+            return response;
+        }
+        CachedResponse previous = generation.entries.putIfAbsent(key, response);
+        if (previous != null) {
+            generation.bytes.addAndGet(-size);
+            return previous;
+        }
+        return response;
+    }
+
+    /**
+     * Serializa uma resposta em JSON.
+     *
+     * @param response Resposta a serializar.
+     * @return Resposta serializada.
+     */
+    public CachedResponse encode(TimezoneResponse response) {
+        return encode(response, ResponseFormat.JSON);
+    }
+
+    /**
+     * Serializa uma resposta no formato pedido.
+     * CBOR e Smile usam cópias do ObjectMapper da aplicação (mesmos módulos e anotações).
+     *
+     * @param response Resposta a serializar.
+     * @param format Codificação da resposta.
+     * @return Resposta serializada.
+     */
+    public CachedResponse encode(TimezoneResponse response, ResponseFormat format) {
+        try {
+            long start = System.nanoTime();
+            byte[] body = mapperFor(format).writeValueAsBytes(response);
+            metrics.recordStage(TimezoneMetrics.Stage.SERIALIZE, System.nanoTime() - start);
+            CRC32C crc = new CRC32C();
+            crc.update(body);
+            return new CachedResponse(response.getStatus(), body, '"' + Long.toHexString(crc.getValue()) + '"',
+                    response.getMatchPath());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar resposta", e);
+        }
+    }
+
+    private ObjectMapper mapperFor(ResponseFormat format) {
+        if (format == ResponseFormat.JSON) {
+            return objectMapper;
+        }
+        return binaryMappers.computeIfAbsent(format, f -> objectMapper.copyWith(f.createBinaryFactory()));
+    }
+
+    /**
+     * Retorna as estatísticas de uso do cache.
+     *
+     * @return Contadores acumulados e ocupação da geração atual.
+     */
+    public CacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Generation generation = current.get();
+        return CacheStats.builder()
+                .enabled(enabled)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(total == 0 ? 0.0 : (double) hitCount / total)
+                .rejected(rejected.sum())
+                .evictions(evictions.sum())
+                .entries(generation.entries.size())
+                .bytes(generation.bytes.get())
+                .maxBytes(maxBytes)
+                .build();
+    }
+
+    /**
+     * Obtém a geração do segundo informado, substituindo a atual quando o relógio avança.
+     *
+     * @return Geração do segundo, ou null se o segundo já passou.
+     */
+    private Generation generationFor(long second) {
+        while (true) {
+            Generation generation = current.get();
+            if (generation.second == second) {
+                return generation;
+            }
+            if (generation.second > second) {
+                return null;
+            }
+            Generation next = new Generation(second);
+            if (current.compareAndSet(generation, next)) {
+                evictions.add(generation.entries.size());
+                return next;
+            }
+        }
+    }
+}
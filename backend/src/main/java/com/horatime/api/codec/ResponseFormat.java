@@ -0,0 +1,104 @@
+package com.horatime.api.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Formatos de resposta negociados pelo cabeçalho Accept.
+ *
+ * JSON continua sendo o padrão. CBOR e Smile são codificações binárias do mesmo documento
+ * (mesmos campos e valores), voltadas a chamadas entre serviços: números e strings sem
+ * escape, e um parse mais barato do que o do JSON textual.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, ""),
+    CBOR(MediaType.APPLICATION_CBOR, MediaType.parseMediaType("application/cbor-seq"), "-cbor"),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), MediaType.parseMediaType("application/x-jackson-smile"), "-smile");
+
+    private final MediaType mediaType;
+    private final MediaType streamMediaType;
+    private final String etagSuffix;
+
+    ResponseFormat(MediaType mediaType, MediaType streamMediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.streamMediaType = streamMediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    /**
+     * Content-Type de um documento neste formato.
+     *
+     * @return Tipo de mídia.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type de uma sequência de documentos (saída da conversão em massa).
+     *
+     * @return Tipo de mídia (NDJSON, sequência CBOR ou stream Smile).
+     */
+    public MediaType getStreamMediaType() {
+        return streamMediaType;
+    }
+
+    /**
+     * Sufixo acrescentado a ETags derivados apenas da versão dos dados, para que cada
+     * representação tenha o seu (ex: "abc123-cbor").
+     *
+     * @return Sufixo (vazio para JSON).
+     */
+    public String getEtagSuffix() {
+        return etagSuffix;
+    }
+
+    /**
+     * Cria a fábrica Jackson das codificações binárias.
+     *
+     * @return Nova fábrica CBOR ou Smile.
+     * @throws IllegalStateException Para JSON, que usa a fábrica do ObjectMapper da aplicação.
+     */
+    public JsonFactory createBinaryFactory() {
+        return switch (this) {
+            case CBOR -> new CBORFactory();
+            case SMILE -> new SmileFactory();
+            case JSON -> throw new IllegalStateException("JSON usa a fábrica do ObjectMapper da aplicação");
+        };
+    }
+
+    /**
+     * Escolhe o formato a partir do cabeçalho Accept, na ordem de preferência (q) do cliente.
+     * Sem cabeçalho, com curingas ou com um cabeçalho inválido, responde em JSON.
+     *
+     * @param accept Valor do cabeçalho Accept (pode ser null).
+     * @return Formato escolhido, ou null se nenhum tipo aceito pelo cliente for suportado.
+     */
+    public static ResponseFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Cabeçalho malformado (ou com tipos demais): mantém o comportamento padrão
+            return JSON;
+        }
+        for (MediaType type : accepted) {
+            for (ResponseFormat format : values()) {
+                if (type.includes(format.mediaType) || type.includes(format.streamMediaType)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
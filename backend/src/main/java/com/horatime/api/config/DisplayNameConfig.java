@@ -0,0 +1,51 @@
+package com.horatime.api.config;
+
+import com.horatime.api.util.TimezoneUtil;
+import com.horatime.api.util.ZoneDisplayNames;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Configuração dos idiomas dos nomes de fuso horário (parâmetro ?lang=).
+ * Os nomes de todos os fusos do conjunto de localidades são calculados na inicialização;
+ * fusos que surgirem depois (recargas, gazetteer) são calculados na primeira consulta.
+ */
+@Slf4j
+@Configuration
+public class DisplayNameConfig {
+
+    @Value("${horatime.display-names.locales:pt-BR,en,es}")
+    private List<String> locales;
+
+    /**
+     * Registra os idiomas configurados e pré-calcula os nomes dos fusos em uso.
+     */
+    @PostConstruct
+    public void loadDisplayNames() {
+        List<Locale> configured = new ArrayList<>();
+        for (String tag : locales) {
+            if (!tag.isBlank()) {
+                configured.add(Locale.forLanguageTag(tag.trim()));
+            }
+        }
+        ZoneDisplayNames.setLocales(configured);
+
+        long start = System.nanoTime();
+        Set<ZoneId> zones = new HashSet<>();
+        for (String location : TimezoneUtil.getAvailableLocations()) {
+            zones.add(TimezoneUtil.findExactZoneId(location));
+        }
+        ZoneDisplayNames.warm(zones);
+        log.info("Nomes de {} fusos horários calculados em {} ms para os idiomas {}",
+                zones.size(), (System.nanoTime() - start) / 1_000_000, ZoneDisplayNames.getLocales());
+    }
+}
@@ -0,0 +1,44 @@
+package com.horatime.api.config;
+
+import com.horatime.api.util.MappedGazetteer;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuração do gazetteer binário opcional.
+ * Quando a propriedade horatime.gazetteer.path está definida, o arquivo é mapeado
+ * em memória na inicialização e passa a ser consultado pelo TimezoneUtil.
+ */
+@Slf4j
+@Configuration
+public class GazetteerConfig {
+
+    @Value("${horatime.gazetteer.path:}")
+    private String gazetteerPath;
+
+    /**
+     * Abre o gazetteer configurado e o registra no TimezoneUtil.
+     */
+    @PostConstruct
+    public void loadGazetteer() {
+        if (gazetteerPath == null || gazetteerPath.isBlank()) {
+            log.info("Gazetteer binário não configurado; usando apenas as localidades embutidas");
+            return;
+        }
+
+        try {
+            MappedGazetteer gazetteer = MappedGazetteer.open(Path.of(gazetteerPath));
+            TimezoneUtil.setGazetteer(gazetteer);
+            log.info("Gazetteer carregado de {}: {} nomes, {} fusos horários",
+                    gazetteerPath, gazetteer.size(), gazetteer.zoneCount());
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível abrir o gazetteer: " + gazetteerPath, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.horatime.api.config;
+
+import com.horatime.api.util.GeoZoneIndex;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Configuração das fronteiras de fusos horários usadas nas consultas por coordenada.
+ * Por padrão usa o conjunto embutido (geo/timezones.geojson), que cobre só os arredores das
+ * cidades embutidas; a propriedade
+ * horatime.geo.path aponta para um GeoJSON completo (ex: exportação do timezone-boundary-builder).
+ * Com o conjunto embutido, coordenadas fora dos contornos não são resolvidas (404); com um
+ * conjunto externo, elas são tratadas como alto-mar e recebem o fuso náutico.
+ */
+@Slf4j
+@Configuration
+public class GeoConfig {
+
+    static final String BUNDLED_BOUNDARIES = "geo/timezones.geojson";
+
+    @Value("${horatime.geo.path:}")
+    private String geoPath;
+
+    @Value("${horatime.geo.cell-size:0.5}")
+    private double cellSize;
+
+    /**
+     * Lê as fronteiras, monta a grade e a registra no TimezoneUtil.
+     */
+    @PostConstruct
+    public void loadBoundaries() {
+        boolean external = geoPath != null && !geoPath.isBlank();
+        String source = external ? geoPath : "classpath:" + BUNDLED_BOUNDARIES;
+
+        long start = System.nanoTime();
+        try (InputStream in = external
+                ? Files.newInputStream(Path.of(geoPath))
+                : new ClassPathResource(BUNDLED_BOUNDARIES).getInputStream()) {
+            GeoZoneIndex index = GeoZoneIndex.read(in, cellSize);
+            // Só um conjunto externo é tratado como completo: fora dele, alto-mar
+            TimezoneUtil.setGeoIndex(index, external);
+            log.info("Fronteiras de fusos carregadas de {}: {} polígonos, {} células de fronteira em {} ms",
+                    source, index.polygonCount(), index.borderCellCount(), (System.nanoTime() - start) / 1_000_000);
+            if (!index.skippedZones().isEmpty()) {
+                log.warn("Fusos ignorados nas fronteiras (desconhecidos pelo JDK): {}", index.skippedZones());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Não foi possível carregar as fronteiras de fusos: " + source, e);
+        }
+    }
+}
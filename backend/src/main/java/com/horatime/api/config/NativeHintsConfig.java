@@ -0,0 +1,50 @@
+package com.horatime.api.config;
+
+import com.horatime.api.model.CacheStats;
+import com.horatime.api.model.ClockTick;
+import com.horatime.api.model.LocationSuggestion;
+import com.horatime.api.model.MeetingPlanResponse;
+import com.horatime.api.model.MeetingSlot;
+import com.horatime.api.model.OffsetTransition;
+import com.horatime.api.model.ReloadResult;
+import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Dicas de reflexão para o Spring AOT e a imagem nativa.
+ *
+ * Os modelos Lombok são serializados diretamente pelo ObjectMapper (cache de respostas,
+ * stream SSE), fora dos tipos de retorno dos controllers que o AOT descobre sozinho;
+ * sem estas dicas o Jackson não encontraria os getters/setters gerados na imagem nativa.
+ * O GeoJSON de fronteiras embutido também precisa ser incluído explicitamente como recurso.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        TimezoneResponse.class,
+        LocationSuggestion.class,
+        MeetingPlanResponse.class,
+        MeetingSlot.class,
+        CacheStats.class,
+        ClockTick.class,
+        ReloadResult.class,
+        ZoneAliases.class,
+        TransitionCalendar.class,
+        OffsetTransition.class
+})
+@ImportRuntimeHints(NativeHintsConfig.ResourceHints.class)
+public class NativeHintsConfig {
+
+    static class ResourceHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern(GeoConfig.BUNDLED_BOUNDARIES);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.horatime.api.controller;
+
+import com.horatime.api.cache.TimezoneResponseCache;
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.TimezoneResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Políticas de cache HTTP e respostas comuns (/info, erros de validação) dos controllers servlet e reativo.
+ *
+ * Respostas com a hora atual valem até a virada do segundo: o cabeçalho Date é alinhado ao
+ * início do segundo e max-age=1, de modo que navegadores, o proxy PHP e CDNs as reutilizam
+ * exatamente até o próximo segundo. Respostas que dependem apenas dos dados de localidades
+ * levam um ETag derivado da versão dos dados. Com ETag em uma resposta 200, o Spring responde
+ * 304 Not Modified quando o If-None-Match (ou If-Modified-Since) da requisição confere.
+ */
+final class HttpCaching {
+
+    /**
+     * Política para respostas que não devem ser armazenadas (erros de validação, health check).
+     */
+    static final CacheControl NO_STORE = CacheControl.noStore();
+
+    /**
+     * Corpo de GET /api/timezone/info.
+     */
+    static final String INFO = "HoraTime API v1.0.0 - Sistema de Fuso Horário";
+
+    /**
+     * ETag fixo de /info; muda apenas com a versão da API.
+     */
+    static final String INFO_ETAG = "\"info-1.0.0\"";
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Aplica os cabeçalhos de uma resposta válida até o fim do segundo em que foi calculada.
+     *
+     * @param builder Resposta em construção.
+     * @param etag ETag da resposta.
+     * @param now Instante usado no cálculo da resposta.
+     * @return O mesmo builder.
+     */
+    static ResponseEntity.BodyBuilder perSecond(ResponseEntity.BodyBuilder builder, String etag, Instant now) {
+        long secondMillis = now.getEpochSecond() * 1000;
+        return builder
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.SECONDS).cachePublic())
+                .eTag(etag)
+                .lastModified(secondMillis)
+                .headers(headers -> {
+                    headers.setDate(secondMillis);
+                    headers.setExpires(secondMillis + 1000);
+                });
+    }
+
+    /**
+     * Aplica os cabeçalhos de uma resposta válida enquanto os dados não mudarem.
+     *
+     * @param builder Resposta em construção.
+     * @param etag ETag da resposta (ex: derivado da versão dos dados).
+     * @param maxAgeSeconds Tempo máximo de reutilização sem revalidação.
+     * @return O mesmo builder.
+     */
+    static ResponseEntity.BodyBuilder untilDataChanges(ResponseEntity.BodyBuilder builder, String etag, long maxAgeSeconds) {
+        return builder
+                .cacheControl(CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .eTag(etag);
+    }
+
+    /**
+     * Resposta de GET /api/timezone/info, igual nos modos servlet e reativo.
+     *
+     * @param maxAgeSeconds Tempo máximo de reutilização sem revalidação.
+     * @return Resposta com o texto da versão e o ETag fixo.
+     */
+    static ResponseEntity<String> info(long maxAgeSeconds) {
+        return untilDataChanges(ResponseEntity.ok(), INFO_ETAG, maxAgeSeconds).body(INFO);
+    }
+
+    /**
+     * Resposta 400 (não cacheável) com uma TimezoneResponse de erro, no formato negociado.
+     * O status ERROR é contado em horatime.responses.
+     *
+     * @param message Mensagem de erro.
+     * @param format Codificação da resposta.
+     * @param responseCache Serializador das respostas.
+     * @param metrics Métricas de status.
+     * @return Resposta 400 com o corpo já serializado.
+     */
+    static ResponseEntity<byte[]> badRequest(String message, ResponseFormat format,
+                                             TimezoneResponseCache responseCache, TimezoneMetrics metrics) {
+        return ResponseEntity.badRequest()
+                .cacheControl(NO_STORE)
+                .contentType(format.getMediaType())
+                .body(responseCache.encode(validationError(message, metrics), format).body());
+    }
+
+    /**
+     * Resposta 400 (não cacheável) de POST /api/timezone/batch: uma lista com uma única
+     * TimezoneResponse de erro. O status ERROR é contado em horatime.responses.
+     *
+     * @param message Mensagem de erro.
+     * @param metrics Métricas de status.
+     * @return Resposta 400 com a lista de um item.
+     */
+    static ResponseEntity<List<TimezoneResponse>> batchBadRequest(String message, TimezoneMetrics metrics) {
+        return ResponseEntity.badRequest()
+                .cacheControl(NO_STORE)
+                .body(List.of(validationError(message, metrics)));
+    }
+
+    private static TimezoneResponse validationError(String message, TimezoneMetrics metrics) {
+        TimezoneResponse errorResponse = TimezoneResponse.builder()
+                .status("ERROR")
+                .message(message)
+                .build();
+        metrics.recordStatus(errorResponse.getStatus());
+        return errorResponse;
+    }
+}
@@ -1,55 +1,278 @@
 package com.horatime.api.controller;
 
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.model.CacheStats;
+import com.horatime.api.model.LocationSuggestion;
+import com.horatime.api.model.MeetingPlanResponse;
+import com.horatime.api.model.ReloadResult;
 import com.horatime.api.model.TimezoneResponse;
-import com.horatime.api.service.TimezoneService;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import com.horatime.api.service.BulkConversionService;
+import com.horatime.api.stream.ClockBroadcaster;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * Controller REST responsável por gerenciar as requisições de fuso horário.
- * Define os endpoints da API para consulta de hora em diferentes localidades.
+ * Define os endpoints da API para consulta de hora em diferentes localidades; a implementação
+ * comum ao modo reativo fica em {@link TimezoneEndpoints}.
+ * Ativo no modo servlet (Tomcat, com threads de plataforma ou virtuais).
  */
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/timezone")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class TimezoneController {
 
-    @Autowired
-    private TimezoneService timezoneService;
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final TimezoneEndpoints endpoints;
+    private final ClockBroadcaster clockBroadcaster;
+    private final BulkConversionService bulkConversionService;
+
+    /**
+     * @param endpoints Implementação comum aos modos servlet e reativo.
+     * @param clockBroadcaster Difusor do stream de relógio.
+     * @param bulkConversionService Conversão de timestamps em massa.
+     */
+    public TimezoneController(TimezoneEndpoints endpoints, ClockBroadcaster clockBroadcaster,
+                              BulkConversionService bulkConversionService) {
+        this.endpoints = endpoints;
+        this.clockBroadcaster = clockBroadcaster;
+        this.bulkConversionService = bulkConversionService;
+    }
 
     /**
      * Endpoint para obter a hora atual de uma localidade.
      *
      * @param location Nome da cidade ou país (parâmetro de query).
-     * @return ResponseEntity contendo a TimezoneResponse.
+     * @param fuzzy true para tolerar erros de digitação quando não houver correspondência exata ou parcial.
+     * @param lang Idioma dos nomes do fuso (ex: "en", "pt-BR"); sem ele, os nomes são omitidos.
+     * @param lat Latitude (-90 a 90); com lon, substitui location e resolve o fuso pelas fronteiras de fusos.
+     * @param lon Longitude (-180 a 180).
+     * @param accept Cabeçalho Accept: application/json (padrão), application/cbor ou application/x-jackson-smile.
+     * @return ResponseEntity contendo a TimezoneResponse já serializada em JSON, cacheável até o próximo segundo.
      */
     @GetMapping
-    public ResponseEntity<TimezoneResponse> getTimezone(@RequestParam(name = "location", required = false) String location) {
-        log.info("Requisição recebida para localidade: {}", location);
-
-        // Validar entrada
-        if (location == null || location.trim().isEmpty()) {
-            log.warn("Parâmetro 'location' não fornecido ou vazio");
-            TimezoneResponse errorResponse = TimezoneResponse.builder()
-                    .status("ERROR")
-                    .message("Parâmetro 'location' é obrigatório")
-                    .build();
-            return ResponseEntity.badRequest().body(errorResponse);
+    public ResponseEntity<byte[]> getTimezone(@RequestParam(name = "location", required = false) String location,
+                                                        @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                        @RequestParam(name = "lang", required = false) String lang,
+                                                        @RequestParam(name = "lat", required = false) String lat,
+                                                        @RequestParam(name = "lon", required = false) String lon,
+                                                        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return endpoints.timezone(location, fuzzy, lang, lat, lon, accept);
+    }
+
+    /**
+     * Endpoint para obter a hora atual de várias localidades em uma única requisição.
+     * Todas as respostas do lote são calculadas a partir do mesmo instante.
+     *
+     * @param locations Lista JSON com nomes de cidades ou países.
+     * @param fuzzy true para tolerar erros de digitação.
+     * @param lang Idioma dos nomes do fuso (opcional).
+     * @return ResponseEntity contendo uma TimezoneResponse por localidade, na mesma ordem.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TimezoneResponse>> getTimezones(@RequestBody(required = false) List<String> locations,
+                                                               @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                               @RequestParam(name = "lang", required = false) String lang) {
+        return endpoints.batch(locations, fuzzy, lang);
+    }
+
+    /**
+     * Endpoint para autocompletar nomes de localidades enquanto o usuário digita.
+     *
+     * @param query Início do nome da cidade ou país.
+     * @param limit Quantidade máxima de sugestões (limitada por horatime.suggest.max-limit).
+     * @param accept Cabeçalho Accept (JSON, CBOR ou Smile); cada formato tem o seu ETag.
+     * @return ResponseEntity com a lista de sugestões em ordem alfabética, com ETag da versão dos dados.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<LocationSuggestion>> suggest(@RequestParam(name = "q", required = false) String query,
+                                                            @RequestParam(name = "limit", defaultValue = "10") int limit,
+                                                            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return endpoints.suggest(query, limit, accept);
+    }
+
+    /**
+     * Endpoint de consulta reversa: fusos horários (e suas localidades) que estão em um offset UTC agora.
+     * A resposta vale até a próxima transição de horário de verão entre os fusos conhecidos.
+     * Lista apenas as localidades do snapshot (mapa embutido e recargas), não os nomes do gazetteer binário.
+     *
+     * @param offset Offset UTC (ex: "+01:00", "-03", "UTC+5:30", "Z"; formas aceitas em {@link TimezoneUtil#parseUtcOffset}).
+     * @param accept Cabeçalho Accept (JSON, CBOR ou Smile).
+     * @return ResponseEntity com os fusos em ordem alfabética (400 se o offset for inválido).
+     */
+    @GetMapping("/zones")
+    public ResponseEntity<List<ZoneAliases>> zonesByOffset(@RequestParam(name = "offset", required = false) String offset,
+                                                           @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return endpoints.zones(offset, accept);
+    }
+
+    /**
+     * Endpoint de consulta reversa: localidades que levam a um fuso horário.
+     * Lista apenas as localidades do snapshot (mapa embutido e recargas), não os nomes do gazetteer binário;
+     * um fuso alcançado só por nomes do gazetteer responde 404.
+     *
+     * @param zone Identificador do fuso horário (ex: "Europe/Paris").
+     * @param accept Cabeçalho Accept (JSON, CBOR ou Smile).
+     * @return ResponseEntity com o fuso e suas localidades (404 se nenhuma localidade levar a ele).
+     */
+    @GetMapping("/aliases")
+    public ResponseEntity<ZoneAliases> aliases(@RequestParam(name = "zone", required = false) String zone,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return endpoints.aliases(zone, accept);
+    }
+
+    /**
+     * Endpoint de conversão de timestamps em massa. Recebe NDJSON
+     * ({"timestamp":..., "source":..., "target":...} por linha) ou CSV (timestamp,source,target)
+     * e devolve as linhas convertidas no mesmo formato, à medida que são lidas. Para entrada NDJSON,
+     * Accept: application/cbor-seq ou application/x-jackson-smile devolve os mesmos registros
+     * numa codificação binária.
+     *
+     * @param request Requisição com o corpo a converter.
+     * @param response Resposta onde as linhas convertidas são escritas.
+     * @throws IOException Se a leitura ou escrita falhar (ex: cliente desconectado).
+     */
+    @PostMapping(path = "/convert", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public void convert(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(TEXT_CSV);
+        ResponseFormat format = csv ? ResponseFormat.JSON : ResponseFormat.fromAccept(request.getHeader(HttpHeaders.ACCEPT));
+        if (format == null) {
+            response.sendError(HttpStatus.NOT_ACCEPTABLE.value());
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, HttpCaching.NO_STORE.getHeaderValue());
+
+        if (format != ResponseFormat.JSON) {
+            response.setContentType(format.getStreamMediaType().toString());
+            long rows = bulkConversionService.convertNdjson(request.getReader(), response.getOutputStream(), format);
+            log.debug("Conversão em massa ({}) concluída: {} linhas", format, rows);
+            return;
+        }
+
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8");
+        Writer out = response.getWriter();
+        long rows = csv
+                ? bulkConversionService.convertCsv(request.getReader(), out)
+                : bulkConversionService.convertNdjson(request.getReader(), out);
+        out.flush();
+        log.debug("Conversão em massa concluída: {} linhas", rows);
+    }
+
+    /**
+     * Endpoint do planejador de reuniões: grade hora a hora com a hora local de cada localidade
+     * e os intervalos em que o expediente de todas se sobrepõe.
+     *
+     * @param locations Localidades participantes (parâmetro repetido).
+     * @param from Primeiro dia do período (UTC, yyyy-MM-dd).
+     * @param to Último dia do período (UTC, inclusivo); padrão: igual a from.
+     * @param workStart Início do expediente local (HH:mm).
+     * @param workEnd Fim do expediente local (HH:mm).
+     * @return ResponseEntity com a MeetingPlanResponse.
+     */
+    @GetMapping("/planner")
+    public ResponseEntity<MeetingPlanResponse> planner(@RequestParam(name = "location", required = false) List<String> locations,
+                                                       @RequestParam(name = "from", required = false) LocalDate from,
+                                                       @RequestParam(name = "to", required = false) LocalDate to,
+                                                       @RequestParam(name = "workStart", defaultValue = "09:00") LocalTime workStart,
+                                                       @RequestParam(name = "workEnd", defaultValue = "18:00") LocalTime workEnd) {
+        return endpoints.planner(locations, from, to, workStart, workEnd);
+    }
+
+    /**
+     * Endpoint do calendário de mudanças de offset (horário de verão) de uma localidade, com as horas
+     * locais de cada salto ou sobreposição. Servido pela tabela de transições compartilhada.
+     *
+     * @param location Nome da cidade ou país.
+     * @param from Primeiro dia do período (UTC, yyyy-MM-dd); padrão: hoje.
+     * @param to Último dia do período (UTC, inclusivo); padrão: um ano após from.
+     * @param accept Cabeçalho Accept (JSON, CBOR ou Smile).
+     * @return ResponseEntity com o TransitionCalendar (404 se a localidade não existir).
+     */
+    @GetMapping("/transitions")
+    public ResponseEntity<TransitionCalendar> transitions(@RequestParam(name = "location", required = false) String location,
+                                                          @RequestParam(name = "from", required = false) LocalDate from,
+                                                          @RequestParam(name = "to", required = false) LocalDate to,
+                                                          @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return endpoints.transitions(location, from, to, accept);
+    }
+
+    /**
+     * Endpoint de stream (Server-Sent Events) com a hora atual das localidades assinadas.
+     * Envia um evento "subscribed" com o fuso de cada localidade e, a cada segundo,
+     * um evento "tick" por fuso horário.
+     *
+     * @param locations Localidades assinadas (parâmetro repetido: location=Paris&amp;location=Tóquio).
+     * @return ResponseEntity com o stream; em caso de erro, um stream com um único evento "error".
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestParam(name = "location", required = false) List<String> locations) {
+        TimezoneEndpoints.StreamRequest request = endpoints.resolveStream(locations);
+        if (request.error() != null) {
+            return errorStream(request.errorStatus(), request.error());
         }
 
-        // Chamar o serviço
-        TimezoneResponse response = timezoneService.getCurrentTime(location);
+        SseEmitter emitter = clockBroadcaster.subscribe(request.zones(), request.subscribed());
+        if (emitter == null) {
+            return errorStream(HttpStatus.SERVICE_UNAVAILABLE, TimezoneEndpoints.streamLimitReached());
+        }
+        return ResponseEntity.ok().cacheControl(HttpCaching.NO_STORE).body(emitter);
+    }
 
-        // Retornar resposta apropriada baseada no status
-        if ("SUCCESS".equals(response.getStatus())) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    /**
+     * Stream encerrado imediatamente com um evento "error" contendo uma TimezoneResponse.
+     */
+    private ResponseEntity<SseEmitter> errorStream(HttpStatus status, TimezoneResponse error) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
         }
+        return ResponseEntity.status(status).cacheControl(HttpCaching.NO_STORE).body(emitter);
+    }
+
+    /**
+     * Endpoint administrativo que recarrega o conjunto de localidades (horatime.locations.path).
+     * Exige o cabeçalho X-Admin-Token igual a horatime.admin.token; sem token configurado,
+     * o endpoint fica desabilitado (404). A requisição aguarda a recarga terminar.
+     *
+     * @param token Valor do cabeçalho X-Admin-Token.
+     * @return ResponseEntity com o resultado (200 aplicado, 422 rejeitado, mantendo o conjunto anterior).
+     */
+    @PostMapping("/admin/reload")
+    public ResponseEntity<ReloadResult> reloadLocations(@RequestHeader(name = "X-Admin-Token", required = false) String token) {
+        return endpoints.reload(token).join();
+    }
+
+    /**
+     * Endpoint com as estatísticas do cache de respostas (acertos, ocupação, descartes).
+     *
+     * @return ResponseEntity com as estatísticas do cache.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> cacheStats() {
+        return endpoints.cacheStats();
     }
 
     /**
@@ -59,8 +282,7 @@ public class TimezoneController {
      */
     @GetMapping("/health")
     public ResponseEntity<String> health() {
-        log.info("Health check realizado");
-        return ResponseEntity.ok("HoraTime API está funcionando corretamente");
+        return endpoints.health();
     }
 
     /**
@@ -70,7 +292,6 @@ public class TimezoneController {
      */
     @GetMapping("/info")
     public ResponseEntity<String> info() {
-        log.info("Info endpoint acessado");
-        return ResponseEntity.ok("HoraTime API v1.0.0 - Sistema de Fuso Horário");
+        return endpoints.info();
     }
 }
@@ -0,0 +1,407 @@
+package com.horatime.api.controller;
+
+import com.horatime.api.cache.TimezoneResponseCache;
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.CacheStats;
+import com.horatime.api.model.LocationSuggestion;
+import com.horatime.api.model.MeetingPlanResponse;
+import com.horatime.api.model.ReloadResult;
+import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import com.horatime.api.service.LocationReloadService;
+import com.horatime.api.service.TimezoneService;
+import com.horatime.api.util.TimezoneUtil;
+import com.horatime.api.util.TransitionTable;
+import com.horatime.api.util.ZoneDisplayNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementação comum dos endpoints de /api/timezone: validação dos parâmetros, chamada ao
+ * serviço, métricas de status e cabeçalhos de cache. O {@link TimezoneController} (servlet) e o
+ * controller reativo apenas adaptam o modelo de execução, de modo que os dois modos respondem
+ * com o mesmo contrato.
+ */
+@Slf4j
+@Component
+class TimezoneEndpoints {
+
+    /**
+     * Localidades de uma assinatura do stream, já resolvidas, ou o erro que a impede.
+     *
+     * @param errorStatus Status HTTP do erro (null se a assinatura é válida).
+     * @param error Corpo do evento "error" (null se a assinatura é válida).
+     * @param zones Fusos horários assinados, sem repetição.
+     * @param subscribed Dados do evento "subscribed": cada localidade com o seu fuso.
+     */
+    record StreamRequest(HttpStatus errorStatus, TimezoneResponse error,
+                         Set<ZoneId> zones, List<LocationSuggestion> subscribed) {
+
+        static StreamRequest failed(HttpStatus status, String message, String location) {
+            return new StreamRequest(status, TimezoneResponse.builder()
+                    .location(location)
+                    .status("ERROR")
+                    .message(message)
+                    .build(), null, null);
+        }
+    }
+
+    private final TimezoneService timezoneService;
+    private final TimezoneResponseCache responseCache;
+    private final TimezoneMetrics metrics;
+    private final LocationReloadService locationReloadService;
+
+    @Value("${horatime.admin.token:}")
+    private String adminToken;
+
+    @Value("${horatime.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${horatime.suggest.max-limit:50}")
+    private int suggestMaxLimit;
+
+    @Value("${horatime.planner.max-locations:25}")
+    private int plannerMaxLocations;
+
+    @Value("${horatime.planner.max-days:31}")
+    private int plannerMaxDays;
+
+    @Value("${horatime.transitions.max-years:50}")
+    private int transitionsMaxYears;
+
+    @Value("${horatime.stream.max-locations:10}")
+    private int streamMaxLocations;
+
+    @Value("${horatime.http.static-max-age:60}")
+    private long staticMaxAge;
+
+    /**
+     * @param timezoneService Serviço de consulta.
+     * @param responseCache Cache e serializador das respostas de GET /api/timezone.
+     * @param metrics Onde são contados os status das respostas.
+     * @param locationReloadService Recarga administrativa das localidades.
+     */
+    TimezoneEndpoints(TimezoneService timezoneService, TimezoneResponseCache responseCache,
+                      TimezoneMetrics metrics, LocationReloadService locationReloadService) {
+        this.timezoneService = timezoneService;
+        this.responseCache = responseCache;
+        this.metrics = metrics;
+        this.locationReloadService = locationReloadService;
+    }
+
+    /**
+     * GET /api/timezone: hora atual de uma localidade ou de uma coordenada.
+     */
+    ResponseEntity<byte[]> timezone(String location, boolean fuzzy, String lang, String lat, String lon, String accept) {
+        log.debug("Requisição recebida para localidade: {}", location);
+
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).<byte[]>build();
+        }
+
+        // Validar entrada
+        boolean byCoordinates = lat != null || lon != null;
+        double latitude = byCoordinates ? parseCoordinate(lat, 90) : Double.NaN;
+        double longitude = byCoordinates ? parseCoordinate(lon, 180) : Double.NaN;
+        if (byCoordinates && (Double.isNaN(latitude) || Double.isNaN(longitude))) {
+            return HttpCaching.badRequest("Parâmetros 'lat' (-90 a 90) e 'lon' (-180 a 180) devem ser números válidos", format, responseCache, metrics);
+        }
+        if (!byCoordinates && (location == null || location.trim().isEmpty())) {
+            log.debug("Parâmetro 'location' não fornecido ou vazio");
+            return HttpCaching.badRequest("Parâmetro 'location' é obrigatório", format, responseCache, metrics);
+        }
+
+        int localeIndex = ZoneDisplayNames.localeIndex(lang);
+        if (lang != null && localeIndex < 0) {
+            return HttpCaching.badRequest("Idioma não suportado: " + lang, format, responseCache, metrics);
+        }
+
+        // Chamar o serviço (respostas repetidas no mesmo segundo vêm prontas do cache)
+        Instant now = Instant.now();
+        // Coordenadas não passam pelo cache de respostas: cada ponto é praticamente único
+        TimezoneResponseCache.CachedResponse response = byCoordinates
+                ? responseCache.encode(timezoneService.getCurrentTimeAt(latitude, longitude, now, localeIndex), format)
+                : responseCache.get(location, fuzzy, localeIndex, format, now,
+                        () -> timezoneService.getCurrentTime(location, fuzzy, now, localeIndex));
+
+        // Retornar resposta apropriada baseada no status
+        metrics.recordStatus(response.status());
+        if ("ERROR".equals(response.status())) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .cacheControl(HttpCaching.NO_STORE)
+                    .contentType(format.getMediaType())
+                    .body(response.body());
+        }
+        HttpStatus status = "SUCCESS".equals(response.status()) ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        return HttpCaching.perSecond(ResponseEntity.status(status), response.etag(), now)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(response.body());
+    }
+
+    /**
+     * Lê uma coordenada em graus, aceitando apenas valores finitos em [-limit, limit].
+     *
+     * @return A coordenada, ou NaN se ausente ou inválida.
+     */
+    private static double parseCoordinate(String value, double limit) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            return Math.abs(parsed) <= limit ? parsed : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * POST /api/timezone/batch: hora atual de várias localidades no mesmo instante.
+     */
+    ResponseEntity<List<TimezoneResponse>> batch(List<String> locations, boolean fuzzy, String lang) {
+        log.debug("Requisição em lote recebida para {} localidades", locations == null ? 0 : locations.size());
+
+        // Validar entrada
+        if (locations == null || locations.isEmpty()) {
+            log.debug("Lista de localidades não fornecida ou vazia");
+            return HttpCaching.batchBadRequest("Lista de localidades é obrigatória", metrics);
+        }
+
+        if (locations.size() > batchMaxSize) {
+            log.debug("Lote com {} localidades excede o limite de {}", locations.size(), batchMaxSize);
+            return HttpCaching.batchBadRequest("O lote deve conter no máximo " + batchMaxSize + " localidades", metrics);
+        }
+
+        int localeIndex = ZoneDisplayNames.localeIndex(lang);
+        if (lang != null && localeIndex < 0) {
+            return HttpCaching.batchBadRequest("Idioma não suportado: " + lang, metrics);
+        }
+
+        List<TimezoneResponse> responses = timezoneService.getCurrentTimes(locations, fuzzy, localeIndex);
+        for (TimezoneResponse response : responses) {
+            metrics.recordStatus(response.getStatus());
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * GET /api/timezone/suggest: autocompletar nomes de localidades.
+     */
+    ResponseEntity<List<LocationSuggestion>> suggest(String query, int limit, String accept) {
+        if (query == null || query.trim().isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        String etag = '"' + timezoneService.getDataVersion() + (format != null ? format.getEtagSuffix() : "") + '"';
+        return HttpCaching.untilDataChanges(ResponseEntity.ok(), etag, staticMaxAge)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(timezoneService.suggestLocations(query, Math.min(Math.max(limit, 0), suggestMaxLimit)));
+    }
+
+    /**
+     * GET /api/timezone/zones: fusos horários que estão em um offset UTC agora (sem os nomes do gazetteer).
+     */
+    ResponseEntity<List<ZoneAliases>> zones(String offset, String accept) {
+        ZoneOffset zoneOffset = TimezoneUtil.parseUtcOffset(offset);
+        if (zoneOffset == null) {
+            return ResponseEntity.badRequest().cacheControl(HttpCaching.NO_STORE).build();
+        }
+
+        Instant now = Instant.now();
+        // Versão lida antes dos grupos: numa transição concorrente, o ETag fica mais antigo que o corpo, nunca mais novo
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        String etag = '"' + timezoneService.getOffsetIndexVersion(now) + (format != null ? format.getEtagSuffix() : "") + '"';
+        List<ZoneAliases> zones = timezoneService.findZonesByOffset(zoneOffset, now);
+        long untilTransition = Math.max(0, timezoneService.getNextOffsetTransition(now) - now.getEpochSecond());
+        return HttpCaching.untilDataChanges(ResponseEntity.ok(), etag, Math.min(staticMaxAge, untilTransition))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(zones);
+    }
+
+    /**
+     * GET /api/timezone/aliases: localidades que levam a um fuso horário (sem os nomes do gazetteer).
+     */
+    ResponseEntity<ZoneAliases> aliases(String zone, String accept) {
+        if (zone == null || zone.isBlank()) {
+            return ResponseEntity.badRequest().cacheControl(HttpCaching.NO_STORE).build();
+        }
+        Instant now = Instant.now();
+        ZoneAliases aliases = timezoneService.findAliases(zone, now);
+        if (aliases == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // O offset atual faz parte da resposta e do ETag: vale até a próxima transição, como em /zones
+        long untilTransition = Math.max(0, timezoneService.getNextOffsetTransition(now) - now.getEpochSecond());
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        String etag = '"' + timezoneService.getDataVersion() + "-" + aliases.getUtcOffset()
+                + (format != null ? format.getEtagSuffix() : "") + '"';
+        return HttpCaching.untilDataChanges(ResponseEntity.ok(), etag, Math.min(staticMaxAge, untilTransition))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(aliases);
+    }
+
+    /**
+     * GET /api/timezone/planner: grade de horários e sobreposição de expediente.
+     */
+    ResponseEntity<MeetingPlanResponse> planner(List<String> locations, LocalDate from, LocalDate to,
+                                                LocalTime workStart, LocalTime workEnd) {
+        if (locations == null || locations.isEmpty() || locations.size() > plannerMaxLocations) {
+            return plannerError("Informe de 1 a " + plannerMaxLocations + " localidades no parâmetro 'location'");
+        }
+        if (from == null) {
+            return plannerError("Parâmetro 'from' é obrigatório (yyyy-MM-dd)");
+        }
+        LocalDate lastDay = to == null ? from : to;
+        if (lastDay.isBefore(from) || ChronoUnit.DAYS.between(from, lastDay) >= plannerMaxDays) {
+            return plannerError("O período deve ter de 1 a " + plannerMaxDays + " dias");
+        }
+
+        MeetingPlanResponse response = timezoneService.planMeeting(locations, from, lastDay, workStart, workEnd);
+        HttpStatus status = "SUCCESS".equals(response.getStatus()) ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    private ResponseEntity<MeetingPlanResponse> plannerError(String message) {
+        return ResponseEntity.badRequest().body(MeetingPlanResponse.builder()
+                .status("ERROR")
+                .message(message)
+                .build());
+    }
+
+    /**
+     * GET /api/timezone/transitions: calendário de mudanças de offset de uma localidade.
+     */
+    ResponseEntity<TransitionCalendar> transitions(String location, LocalDate from, LocalDate to, String accept) {
+        if (location == null || location.trim().isEmpty()) {
+            return transitionsError("Parâmetro 'location' é obrigatório");
+        }
+        LocalDate firstDay = from == null ? LocalDate.now(ZoneOffset.UTC) : from;
+        LocalDate lastDay = to == null ? firstDay.plusYears(1) : to;
+        if (lastDay.isBefore(firstDay) || lastDay.isAfter(firstDay.plusYears(transitionsMaxYears))) {
+            return transitionsError("O período deve ter de 1 dia a " + transitionsMaxYears + " anos");
+        }
+        if (lastDay.getYear() > TransitionTable.LAST_YEAR) {
+            return transitionsError("O período deve terminar até " + TransitionTable.LAST_YEAR);
+        }
+
+        TransitionCalendar calendar = timezoneService.getTransitions(location, firstDay, lastDay);
+        if (!"SUCCESS".equals(calendar.getStatus())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(HttpCaching.NO_STORE).body(calendar);
+        }
+        // O resultado só muda com os dados de localidades; o período resolvido entra no ETag
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        String etag = '"' + timezoneService.getDataVersion() + '-' + firstDay + '-' + lastDay
+                + (format != null ? format.getEtagSuffix() : "") + '"';
+        return HttpCaching.untilDataChanges(ResponseEntity.ok(), etag, staticMaxAge)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(calendar);
+    }
+
+    private ResponseEntity<TransitionCalendar> transitionsError(String message) {
+        return ResponseEntity.badRequest().cacheControl(HttpCaching.NO_STORE).body(TransitionCalendar.builder()
+                .status("ERROR")
+                .message(message)
+                .build());
+    }
+
+    /**
+     * GET /api/timezone/stream: valida a lista e resolve o fuso de cada localidade assinada.
+     */
+    StreamRequest resolveStream(List<String> locations) {
+        if (locations == null || locations.isEmpty() || locations.size() > streamMaxLocations) {
+            return StreamRequest.failed(HttpStatus.BAD_REQUEST,
+                    "Informe de 1 a " + streamMaxLocations + " localidades no parâmetro 'location'", null);
+        }
+
+        Set<ZoneId> zones = new LinkedHashSet<>();
+        List<LocationSuggestion> subscribed = new ArrayList<>(locations.size());
+        for (String location : locations) {
+            ZoneId zoneId = timezoneService.findZoneId(location);
+            if (zoneId == null) {
+                return StreamRequest.failed(HttpStatus.NOT_FOUND, "Localidade não encontrada no banco de dados", location);
+            }
+            zones.add(zoneId);
+            subscribed.add(LocationSuggestion.builder().location(location).timezone(zoneId.getId()).build());
+        }
+        return new StreamRequest(null, null, zones, subscribed);
+    }
+
+    /**
+     * Corpo do evento "error" quando o limite de conexões do stream foi atingido (503).
+     */
+    static TimezoneResponse streamLimitReached() {
+        return TimezoneResponse.builder()
+                .status("ERROR")
+                .message("Limite de conexões do stream atingido")
+                .build();
+    }
+
+    /**
+     * POST /api/timezone/admin/reload: recarrega as localidades se o token conferir.
+     *
+     * @return Resposta concluída quando a recarga terminar (imediatamente, se o token for recusado).
+     */
+    CompletableFuture<ResponseEntity<ReloadResult>> reload(String token) {
+        if (adminToken == null || adminToken.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        if (token == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Tentativa de recarga de localidades com token inválido");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .cacheControl(HttpCaching.NO_STORE)
+                    .body(ReloadResult.builder().status("ERROR").message("Token administrativo inválido").build()));
+        }
+
+        return locationReloadService.reload().thenApply(result -> {
+            HttpStatus status = "SUCCESS".equals(result.getStatus()) ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+            return ResponseEntity.status(status).cacheControl(HttpCaching.NO_STORE).body(result);
+        });
+    }
+
+    /**
+     * GET /api/timezone/cache/stats: estatísticas do cache de respostas.
+     */
+    ResponseEntity<CacheStats> cacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
+    }
+
+    /**
+     * GET /api/timezone/health.
+     */
+    ResponseEntity<String> health() {
+        log.debug("Health check realizado");
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.NO_STORE)
+                .body("HoraTime API está funcionando corretamente");
+    }
+
+    /**
+     * GET /api/timezone/info.
+     */
+    ResponseEntity<String> info() {
+        log.debug("Info endpoint acessado");
+        return HttpCaching.info(staticMaxAge);
+    }
+}
@@ -0,0 +1,214 @@
+package com.horatime.api.logging;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log de acesso assíncrono e amostrado.
+ *
+ * A thread da requisição apenas enfileira um registro em uma fila limitada; a formatação
+ * e a escrita acontecem em uma thread dedicada, no logger "horatime.access". Respostas de
+ * sucesso (status abaixo de 400) são amostradas conforme horatime.access-log.sample-rate;
+ * erros são sempre registrados. Quando a fila está cheia o registro é descartado e contado,
+ * em vez de bloquear a requisição.
+ */
+@Slf4j
+@Component
+public class AccessLog {
+
+    /**
+     * Registro de uma requisição.
+     *
+     * @param timestamp Instante de término, em milissegundos desde a época.
+     * @param method Método HTTP.
+     * @param uri Caminho e query string.
+     * @param status Status HTTP da resposta.
+     * @param durationNanos Duração do processamento.
+     */
+    public record Entry(long timestamp, String method, String uri, int status, long durationNanos) {
+
+        /**
+         * Formata o registro como uma linha chave=valor.
+         *
+         * @return Linha do log de acesso.
+         */
+        public String format() {
+            return "ts=" + Instant.ofEpochMilli(timestamp)
+                    + " method=" + method
+                    + " uri=\"" + uri + '"'
+                    + " status=" + status
+                    + " durationMs=" + String.format(Locale.ROOT, "%.3f", durationNanos / 1_000_000.0);
+        }
+    }
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("horatime.access");
+
+    /**
+     * Quantidade máxima de registros escritos por rodada da thread de escrita.
+     */
+    private static final int DRAIN_BATCH = 256;
+
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.access-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${horatime.access-log.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${horatime.access-log.queue-capacity:8192}")
+    private int queueCapacity;
+
+    private BlockingQueue<Entry> queue;
+    private Thread writer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param metrics Onde são publicados os contadores de registros escritos, amostrados e descartados.
+     */
+    public AccessLog(TimezoneMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Cria a fila, publica os contadores e inicia a thread de escrita.
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        metrics.registerFunctionCounter("horatime.access_log.written", "Registros de acesso escritos", written, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.access_log.sampled_out", "Registros de sucesso descartados pela amostragem", sampledOut, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.access_log.dropped", "Registros descartados com a fila cheia", dropped, LongAdder::sum);
+        metrics.registerGauge("horatime.access_log.queue", "Registros aguardando escrita", () -> queue.size());
+
+        if (enabled) {
+            writer = new Thread(this::drainLoop, "access-log-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Interrompe a thread de escrita e escreve o que restou na fila.
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Enfileira o registro de uma requisição, sem bloquear.
+     *
+     * @param method Método HTTP.
+     * @param uri Caminho e query string.
+     * @param status Status HTTP da resposta.
+     * @param durationNanos Duração do processamento.
+     * @return true se o registro foi enfileirado.
+     */
+    public boolean record(String method, String uri, int status, long durationNanos) {
+        if (!enabled) {
+            return false;
+        }
+        if (status < 400 && !sampled()) {
+            sampledOut.increment();
+            return false;
+        }
+        if (!queue.offer(new Entry(System.currentTimeMillis(), method, uri, status, durationNanos))) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Escreve os registros pendentes na thread atual.
+     *
+     * @return Quantidade de registros escritos.
+     */
+    public int drain() {
+        if (queue == null) {
+            return 0;
+        }
+        List<Entry> batch = new ArrayList<>(DRAIN_BATCH);
+        int total = 0;
+        while (queue.drainTo(batch, DRAIN_BATCH) > 0) {
+            write(batch);
+            total += batch.size();
+            batch.clear();
+        }
+        return total;
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(DRAIN_BATCH);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, DRAIN_BATCH - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        for (Entry entry : batch) {
+            try {
+                if (entry.status() >= 500) {
+                    ACCESS.error(entry.format());
+                } else if (entry.status() >= 400) {
+                    ACCESS.warn(entry.format());
+                } else {
+                    ACCESS.info(entry.format());
+                }
+                written.increment();
+            } catch (RuntimeException e) {
+                log.error("Falha ao escrever registro de acesso", e);
+            }
+        }
+    }
+}
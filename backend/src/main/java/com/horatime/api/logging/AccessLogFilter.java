@@ -0,0 +1,43 @@
+package com.horatime.api.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro servlet que entrega ao {@link AccessLog} um registro por requisição.
+ * Requisições que terminam com exceção são registradas com status 500.
+ * Executa antes do controle de admissão, para que as recusas (429/503) também sejam registradas.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private AccessLog accessLog;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = 500;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            String query = request.getQueryString();
+            String uri = query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+            accessLog.record(request.getMethod(), uri, status, System.nanoTime() - start);
+        }
+    }
+}
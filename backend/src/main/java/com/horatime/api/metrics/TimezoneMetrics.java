@@ -0,0 +1,134 @@
+package com.horatime.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas Micrometer do pipeline de consulta de fuso horário.
+ *
+ * Todos os medidores são registrados na construção e guardados em campos, de modo que
+ * registrar uma medição no caminho quente não aloca nem consulta o registro.
+ * Expostas em /actuator/prometheus e /actuator/metrics.
+ *
+ * Os contadores de caminho e de status cobrem todas as consultas, inclusive as servidas pelo
+ * cache de respostas. Os tempos por etapa medem apenas as respostas calculadas: um acerto do
+ * cache não executa as etapas.
+ */
+@Component
+public class TimezoneMetrics {
+
+    /**
+     * Etapas cronometradas de uma consulta.
+     */
+    public enum Stage {
+        NORMALIZE, EXACT, PARTIAL, FUZZY, CLOCK, SERIALIZE
+    }
+
+    /**
+     * Caminho pelo qual a localidade foi resolvida (GEO = por coordenada).
+     */
+    public enum MatchPath {
+        EXACT, PARTIAL, FUZZY, GEO, MISS
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<MatchPath, Counter> matchCounters = new EnumMap<>(MatchPath.class);
+    private final Counter successCounter;
+    private final Counter notFoundCounter;
+    private final Counter errorCounter;
+
+    public TimezoneMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("horatime.lookup.stage")
+                    .description("Latência de cada etapa da consulta de fuso horário (apenas respostas calculadas)")
+                    .tag("stage", stage.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (MatchPath path : MatchPath.values()) {
+            matchCounters.put(path, Counter.builder("horatime.lookup.match")
+                    .description("Consultas por caminho de resolução da localidade")
+                    .tag("path", path.name().toLowerCase())
+                    .register(registry));
+        }
+        this.successCounter = statusCounter(registry, "SUCCESS");
+        this.notFoundCounter = statusCounter(registry, "NOT_FOUND");
+        this.errorCounter = statusCounter(registry, "ERROR");
+    }
+
+    private static Counter statusCounter(MeterRegistry registry, String status) {
+        return Counter.builder("horatime.responses")
+                .description("Respostas por status")
+                .tag("status", status)
+                .register(registry);
+    }
+
+    /**
+     * Registra a duração de uma etapa.
+     *
+     * @param stage Etapa medida.
+     * @param nanos Duração em nanossegundos (diferença entre leituras de System.nanoTime()).
+     */
+    public void recordStage(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Conta uma consulta resolvida (ou não) por um caminho.
+     *
+     * @param path Caminho de resolução.
+     */
+    public void recordMatch(MatchPath path) {
+        matchCounters.get(path).increment();
+    }
+
+    /**
+     * Conta uma resposta pelo seu status ("SUCCESS", "NOT_FOUND" ou "ERROR").
+     *
+     * @param status Status da TimezoneResponse.
+     */
+    public void recordStatus(String status) {
+        if ("SUCCESS".equals(status)) {
+            successCounter.increment();
+        } else if ("NOT_FOUND".equals(status)) {
+            notFoundCounter.increment();
+        } else {
+            errorCounter.increment();
+        }
+    }
+
+    /**
+     * Registra um contador acumulado mantido por outro componente (ex: acertos do cache).
+     *
+     * @param name Nome da métrica.
+     * @param description Descrição da métrica.
+     * @param source Objeto que mantém o valor.
+     * @param value Função que lê o valor acumulado.
+     */
+    public <T> void registerFunctionCounter(String name, String description, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).description(description).register(registry);
+    }
+
+    /**
+     * Registra um valor instantâneo mantido por outro componente (ex: bytes ocupados pelo cache).
+     *
+     * @param name Nome da métrica.
+     * @param description Descrição da métrica.
+     * @param value Fornecedor do valor atual.
+     */
+    public void registerGauge(String name, String description, Supplier<Number> value) {
+        Gauge.builder(name, value).description(description).register(registry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.horatime.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Classe de modelo com as estatísticas do cache de respostas.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStats {
+
+    /**
+     * Indica se o cache está habilitado.
+     */
+    private boolean enabled;
+
+    /**
+     * Quantidade de respostas servidas a partir do cache.
+     */
+    private long hits;
+
+    /**
+     * Quantidade de respostas que precisaram ser calculadas.
+     */
+    private long misses;
+
+    /**
+     * Proporção de acertos (hits / (hits + misses)).
+     */
+    private double hitRate;
+
+    /**
+     * Respostas não armazenadas por falta de espaço no orçamento de bytes.
+     */
+    private long rejected;
+
+    /**
+     * Entradas descartadas na virada de segundo.
+     */
+    private long evictions;
+
+    /**
+     * Entradas na geração atual.
+     */
+    private int entries;
+
+    /**
+     * Bytes ocupados pela geração atual (aproximado).
+     */
+    private long bytes;
+
+    /**
+     * Limite de bytes por geração.
+     */
+    private long maxBytes;
+}
@@ -0,0 +1,36 @@
+package com.horatime.api.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento enviado a cada segundo pelo stream de relógio (GET /api/timezone/stream),
+ * um por fuso horário assinado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClockTick {
+
+    /**
+     * Identificador do fuso horário (ex: "America/Sao_Paulo").
+     */
+    private String timezone;
+
+    /**
+     * Hora atual no fuso horário, formatada em ISO 8601.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime currentTime;
+
+    /**
+     * Offset do fuso horário em relação ao UTC (ex: "-03:00").
+     */
+    private String utcOffset;
+}
@@ -0,0 +1,26 @@
+package com.horatime.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Classe de modelo que representa uma sugestão de localidade para autocompletar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationSuggestion {
+
+    /**
+     * Nome da localidade sugerida (ex: "São Paulo").
+     */
+    private String location;
+
+    /**
+     * Identificador do fuso horário da localidade (ex: "America/Sao_Paulo").
+     */
+    private String timezone;
+}
@@ -0,0 +1,68 @@
+package com.horatime.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Classe de modelo que representa a resposta do planejador de reuniões.
+ * A grade tem uma linha por localidade e uma coluna por hora UTC a partir de {@code from}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MeetingPlanResponse {
+
+    /**
+     * Localidades consultadas e seus fusos horários, na ordem das linhas da grade.
+     */
+    private List<LocationSuggestion> locations;
+
+    /**
+     * Início da primeira hora da grade (UTC).
+     */
+    private Instant from;
+
+    /**
+     * Fim da última hora da grade (UTC, exclusivo).
+     */
+    private Instant to;
+
+    /**
+     * Expediente considerado, em hora local (ex: "09:00").
+     */
+    private String workStart;
+
+    /**
+     * Fim do expediente, em hora local (ex: "18:00").
+     */
+    private String workEnd;
+
+    /**
+     * Hora local de cada localidade no início de cada hora UTC, no formato HHmm
+     * (ex: 930 = 09:30). Indexada por [localidade][hora].
+     */
+    private int[][] localTimes;
+
+    /**
+     * Intervalos em que todas as localidades estão dentro do expediente.
+     */
+    private List<MeetingSlot> overlaps;
+
+    /**
+     * Status da requisição: "SUCCESS", "NOT_FOUND" ou "ERROR".
+     */
+    private String status;
+
+    /**
+     * Mensagem descritiva (útil para erros).
+     */
+    private String message;
+}
@@ -0,0 +1,33 @@
+package com.horatime.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Intervalo contínuo em que todas as localidades estão dentro do expediente.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeetingSlot {
+
+    /**
+     * Início do intervalo (UTC).
+     */
+    private Instant start;
+
+    /**
+     * Fim do intervalo (UTC, exclusivo).
+     */
+    private Instant end;
+
+    /**
+     * Duração do intervalo em horas.
+     */
+    private int hours;
+}
@@ -0,0 +1,57 @@
+package com.horatime.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Mudança de offset UTC de um fuso horário (ex: início ou fim do horário de verão).
+ *
+ * Num salto ("GAP"), as horas locais em [localBefore, localAfter) não existem; numa
+ * sobreposição ("OVERLAP"), as horas locais em [localAfter, localBefore) acontecem duas vezes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OffsetTransition {
+
+    /**
+     * Instante da transição (UTC).
+     */
+    private Instant instant;
+
+    /**
+     * "GAP" quando o relógio adianta, "OVERLAP" quando atrasa.
+     */
+    private String type;
+
+    /**
+     * Offset UTC antes da transição (ex: "-05:00").
+     */
+    private String offsetBefore;
+
+    /**
+     * Offset UTC depois da transição (ex: "-04:00").
+     */
+    private String offsetAfter;
+
+    /**
+     * Hora local marcada pelo relógio no instante da transição, ainda no offset anterior.
+     */
+    private LocalDateTime localBefore;
+
+    /**
+     * Hora local para a qual o relógio muda no instante da transição.
+     */
+    private LocalDateTime localAfter;
+
+    /**
+     * Tamanho do salto ou da sobreposição, em segundos.
+     */
+    private int durationSeconds;
+}
@@ -0,0 +1,43 @@
+package com.horatime.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Classe de modelo com o resultado de uma recarga do conjunto de localidades.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReloadResult {
+
+    /**
+     * Status da recarga (SUCCESS ou ERROR).
+     */
+    private String status;
+
+    /**
+     * Mensagem descritiva (motivo da falha, quando houver).
+     */
+    private String message;
+
+    /**
+     * Quantidade de localidades no snapshot em uso após a recarga.
+     */
+    private Integer locations;
+
+    /**
+     * Versão dos dados em uso após a recarga (a mesma usada nos ETags).
+     */
+    private String dataVersion;
+
+    /**
+     * Tempo de leitura, validação e construção dos índices, em milissegundos.
+     */
+    private Long durationMs;
+}
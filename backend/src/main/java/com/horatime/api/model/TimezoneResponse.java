@@ -1,6 +1,9 @@
 package com.horatime.api.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.horatime.api.metrics.TimezoneMetrics.MatchPath;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -48,4 +51,36 @@ public class TimezoneResponse {
      * Mensagem descritiva (útil para erros).
      */
     private String message;
+
+    /**
+     * Nome do fuso horário no idioma pedido em ?lang=, conforme o horário (padrão ou de verão)
+     * em vigor no instante da resposta (ex: "Central European Summer Time").
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String timezoneName;
+
+    /**
+     * Abreviação do fuso horário no idioma pedido em ?lang= (ex: "CEST"); apenas com ?lang=.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String timezoneAbbreviation;
+
+    /**
+     * Localidade efetivamente encontrada pela busca aproximada (apenas com fuzzy=true).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String matchedLocation;
+
+    /**
+     * Distância de edição entre a pesquisa e a localidade encontrada (apenas com fuzzy=true).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer matchDistance;
+
+    /**
+     * Caminho pelo qual a localidade foi resolvida; não é serializado. Guardado junto da resposta
+     * em cache para que os acertos do cache também sejam contados em horatime.lookup.match.
+     */
+    @JsonIgnore
+    private MatchPath matchPath;
 }
@@ -0,0 +1,56 @@
+package com.horatime.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Classe de modelo que representa o calendário de mudanças de offset de uma localidade em um período.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransitionCalendar {
+
+    /**
+     * Nome da localidade consultada.
+     */
+    private String location;
+
+    /**
+     * Identificador do fuso horário (ex: "America/New_York").
+     */
+    private String timezone;
+
+    /**
+     * Início do período (UTC).
+     */
+    private Instant from;
+
+    /**
+     * Fim do período (UTC, exclusivo).
+     */
+    private Instant to;
+
+    /**
+     * Transições do período, em ordem cronológica.
+     */
+    private List<OffsetTransition> transitions;
+
+    /**
+     * Status da requisição: "SUCCESS", "NOT_FOUND" ou "ERROR".
+     */
+    private String status;
+
+    /**
+     * Mensagem descritiva (útil para erros).
+     */
+    private String message;
+}
@@ -0,0 +1,33 @@
+package com.horatime.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Classe de modelo de um fuso horário com as localidades que levam a ele (consulta reversa).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneAliases {
+
+    /**
+     * Identificador do fuso horário (ex: "Europe/Paris").
+     */
+    private String timezone;
+
+    /**
+     * Offset UTC atual do fuso horário (ex: "+01:00").
+     */
+    private String utcOffset;
+
+    /**
+     * Nomes de localidades (normalizados) mapeados para o fuso, em ordem alfabética.
+     */
+    private List<String> locations;
+}
@@ -0,0 +1,270 @@
+package com.horatime.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.util.TimestampConverter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serviço de conversão de timestamps em massa (POST /api/timezone/convert).
+ *
+ * As linhas são lidas, convertidas e escritas uma a uma, de modo que a memória usada não
+ * depende do tamanho da entrada. Linhas inválidas geram uma linha de erro e não interrompem
+ * o processamento.
+ */
+@Slf4j
+@Service
+public class BulkConversionService {
+
+    private static final String CSV_HEADER = "timestamp,source,target,converted,offset,timezone,error";
+
+    private final ObjectMapper objectMapper;
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.convert.max-cached-names:10000}")
+    private int maxCachedNames;
+
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+
+    /**
+     * @param objectMapper Fábrica do leitor e do escritor NDJSON.
+     * @param metrics Onde são publicados os contadores de linhas.
+     */
+    public BulkConversionService(ObjectMapper objectMapper, TimezoneMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Publica os contadores de linhas convertidas.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        metrics.registerFunctionCounter("horatime.convert.rows", "Linhas processadas pela conversão em massa", rows, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.convert.failed", "Linhas com erro na conversão em massa", failedRows, LongAdder::sum);
+    }
+
+    /**
+     * Converte linhas NDJSON {"timestamp":..., "source":..., "target":...}.
+     * Cada linha de saída repete os campos de entrada e acrescenta converted, offset e timezone
+     * (ou line e error, quando a linha é inválida; line é o número da linha na entrada, contando
+     * as linhas em branco).
+     *
+     * @param in Entrada, uma linha JSON por registro.
+     * @param out Saída NDJSON.
+     * @return Quantidade de linhas processadas.
+     * @throws IOException Se a leitura ou escrita falhar.
+     */
+    public long convertNdjson(BufferedReader in, Writer out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            return convertRecords(in, generator, true);
+        }
+    }
+
+    /**
+     * Converte linhas NDJSON, escrevendo os registros de saída numa codificação binária:
+     * uma sequência CBOR (RFC 8742) ou um stream Smile, com os mesmos campos da saída NDJSON.
+     *
+     * @param in Entrada, uma linha JSON por registro.
+     * @param out Saída binária.
+     * @param format CBOR ou SMILE.
+     * @return Quantidade de linhas processadas.
+     * @throws IOException Se a leitura ou escrita falhar.
+     */
+    public long convertNdjson(BufferedReader in, OutputStream out, ResponseFormat format) throws IOException {
+        try (JsonGenerator generator = format.createBinaryFactory().createGenerator(out)) {
+            return convertRecords(in, generator, false);
+        }
+    }
+
+    private long convertRecords(BufferedReader in, JsonGenerator generator, boolean newlineDelimited) throws IOException {
+        TimestampConverter converter = new TimestampConverter(maxCachedNames);
+        JsonFactory factory = objectMapper.getFactory();
+        long count = 0;
+        long lineNumber = 0;
+        String line;
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            count++;
+            String[] fields = new String[3];
+            String error = null;
+            try (JsonParser parser = factory.createParser(line)) {
+                readFields(parser, fields);
+            } catch (IOException e) {
+                error = "JSON inválido";
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", fields[0]);
+            generator.writeStringField("source", fields[1]);
+            generator.writeStringField("target", fields[2]);
+            if (error == null) {
+                try {
+                    TimestampConverter.Conversion conversion = converter.convert(fields[0], fields[1], fields[2]);
+                    generator.writeStringField("converted", TimestampConverter.LOCAL_FORMAT.format(conversion.target()));
+                    generator.writeStringField("offset", conversion.targetOffset().getId());
+                    generator.writeStringField("timezone", conversion.targetZone().getId());
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                failedRows.increment();
+                generator.writeNumberField("line", lineNumber);
+                generator.writeStringField("error", error);
+            }
+            generator.writeEndObject();
+            if (newlineDelimited) {
+                generator.writeRaw('\n');
+            }
+        }
+        rows.add(count);
+        return count;
+    }
+
+    /**
+     * Converte linhas CSV timestamp,source,target (cabeçalho opcional).
+     * A saída tem o cabeçalho timestamp,source,target,converted,offset,timezone,error.
+     *
+     * @param in Entrada CSV.
+     * @param out Saída CSV.
+     * @return Quantidade de linhas processadas.
+     * @throws IOException Se a leitura ou escrita falhar.
+     */
+    public long convertCsv(BufferedReader in, Writer out) throws IOException {
+        TimestampConverter converter = new TimestampConverter(maxCachedNames);
+        long count = 0;
+        boolean first = true;
+        String line;
+        out.write(CSV_HEADER);
+        out.write('\n');
+        List<String> fields = new ArrayList<>(4);
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            fields.clear();
+            splitCsv(line, fields);
+            if (first) {
+                first = false;
+                if ("timestamp".equalsIgnoreCase(fields.get(0).trim())) {
+                    continue;
+                }
+            }
+            count++;
+            String timestamp = fields.get(0);
+            String source = fields.size() > 1 ? fields.get(1) : null;
+            String target = fields.size() > 2 ? fields.get(2) : null;
+
+            writeCsv(out, timestamp);
+            out.write(',');
+            writeCsv(out, source);
+            out.write(',');
+            writeCsv(out, target);
+            try {
+                TimestampConverter.Conversion conversion = converter.convert(timestamp, source, target);
+                out.write(',');
+                out.write(TimestampConverter.LOCAL_FORMAT.format(conversion.target()));
+                out.write(',');
+                out.write(conversion.targetOffset().getId());
+                out.write(',');
+                writeCsv(out, conversion.targetZone().getId());
+                out.write(',');
+            } catch (IllegalArgumentException e) {
+                failedRows.increment();
+                out.write(",,,,");
+                writeCsv(out, e.getMessage());
+            }
+            out.write('\n');
+        }
+        rows.add(count);
+        return count;
+    }
+
+    private static void readFields(JsonParser parser, String[] fields) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Linha não é um objeto JSON");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            int index = switch (name) {
+                case "timestamp" -> 0;
+                case "source" -> 1;
+                case "target" -> 2;
+                default -> -1;
+            };
+            if (index >= 0 && value.isScalarValue()) {
+                fields[index] = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Divide uma linha CSV, respeitando campos entre aspas.
+     */
+    static void splitCsv(String line, List<String> fields) {
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+    }
+
+    private static void writeCsv(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,208 @@
+package com.horatime.api.service;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.ReloadResult;
+import com.horatime.api.util.GazetteerCompiler;
+import com.horatime.api.util.LocationSnapshot;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recarga do conjunto de localidades sem reiniciar a aplicação.
+ *
+ * O arquivo horatime.locations.path (CSV no formato do GazetteerCompiler: fuso,nome,apelido...)
+ * é mesclado sobre o mapa embutido. A leitura, a validação de todos os fusos com ZoneId.of e a
+ * construção dos índices acontecem numa thread dedicada; só então o novo snapshot é publicado
+ * no TimezoneUtil com uma única escrita volátil. Se qualquer entrada for inválida, o snapshot
+ * anterior continua em uso. Recargas são serializadas (uma por vez).
+ */
+@Slf4j
+@Service
+public class LocationReloadService {
+
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.locations.path:}")
+    private String locationsPath;
+
+    @Value("${horatime.locations.watch:false}")
+    private boolean watch;
+
+    /**
+     * Intervalo de espera após uma alteração do arquivo, para agrupar escritas consecutivas.
+     */
+    @Value("${horatime.locations.watch-debounce-ms:500}")
+    private long watchDebounceMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "location-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private WatchService watchService;
+
+    /**
+     * @param metrics Onde são publicadas as recargas aplicadas, as rejeitadas e o tamanho do snapshot.
+     */
+    public LocationReloadService(TimezoneMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Registra as métricas, aplica o arquivo configurado e inicia a observação do arquivo.
+     * Na inicialização, um arquivo inválido impede a subida da aplicação.
+     */
+    @PostConstruct
+    public void start() {
+        metrics.registerFunctionCounter("horatime.locations.reloads", "Recargas de localidades aplicadas", successes, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.locations.reload_failures", "Recargas de localidades rejeitadas", failures, LongAdder::sum);
+        metrics.registerGauge("horatime.locations.entries", "Localidades no snapshot em uso", () -> TimezoneUtil.getSnapshot().size());
+
+        if (!isConfigured()) {
+            return;
+        }
+        ReloadResult result = reload().join();
+        if (!"SUCCESS".equals(result.getStatus())) {
+            throw new IllegalStateException("Não foi possível carregar as localidades de " + locationsPath + ": " + result.getMessage());
+        }
+        if (watch) {
+            startWatcher(Path.of(locationsPath).toAbsolutePath());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Erro ao encerrar a observação de {}", locationsPath, e);
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Agenda uma recarga na thread dedicada.
+     *
+     * @return Future concluído com o resultado (nunca conclui com exceção).
+     */
+    public CompletableFuture<ReloadResult> reload() {
+        return CompletableFuture.supplyAsync(this::doReload, executor);
+    }
+
+    /**
+     * Indica se há um arquivo de localidades configurado.
+     *
+     * @return true se horatime.locations.path estiver definida.
+     */
+    public boolean isConfigured() {
+        return locationsPath != null && !locationsPath.isBlank();
+    }
+
+    private ReloadResult doReload() {
+        long start = System.nanoTime();
+        try {
+            Map<String, String> locations = new LinkedHashMap<>(TimezoneUtil.getBuiltInLocations());
+            if (isConfigured()) {
+                try (Reader reader = Files.newBufferedReader(Path.of(locationsPath), StandardCharsets.UTF_8)) {
+                    locations.putAll(GazetteerCompiler.readCsv(reader));
+                }
+            }
+            LocationSnapshot snapshot = LocationSnapshot.of(locations);
+            TimezoneUtil.setSnapshot(snapshot);
+            successes.increment();
+
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("Localidades recarregadas: {} nomes em {} ms (versão {})", snapshot.size(), durationMs, TimezoneUtil.getDataVersion());
+            return ReloadResult.builder()
+                    .status("SUCCESS")
+                    .locations(snapshot.size())
+                    .dataVersion(TimezoneUtil.getDataVersion())
+                    .durationMs(durationMs)
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.warn("Recarga de localidades rejeitada; mantendo o conjunto atual: {}", e.getMessage());
+            return ReloadResult.builder()
+                    .status("ERROR")
+                    .message(e.getMessage())
+                    .locations(TimezoneUtil.getSnapshot().size())
+                    .dataVersion(TimezoneUtil.getDataVersion())
+                    .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .build();
+        }
+    }
+
+    /**
+     * Observa o diretório do arquivo e agenda uma recarga quando ele é criado ou alterado.
+     */
+    private void startWatcher(Path file) {
+        try {
+            Path directory = file.getParent();
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível observar " + file, e);
+        }
+
+        Thread watcher = new Thread(() -> watchLoop(file), "location-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Observando alterações em {}", file);
+    }
+
+    private void watchLoop(Path file) {
+        Path fileName = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context());
+                }
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                // Editores e cópias costumam gerar vários eventos seguidos: esperar e descartar os repetidos
+                Thread.sleep(watchDebounceMs);
+                WatchKey pending;
+                while ((pending = watchService.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Encerramento da aplicação
+        }
+    }
+}
@@ -1,12 +1,36 @@
 package com.horatime.api.service;
 
+import com.horatime.api.cache.NegativeLookupCache;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.metrics.TimezoneMetrics.MatchPath;
+import com.horatime.api.metrics.TimezoneMetrics.Stage;
+import com.horatime.api.model.LocationSuggestion;
+import com.horatime.api.model.MeetingPlanResponse;
+import com.horatime.api.model.MeetingSlot;
+import com.horatime.api.model.OffsetTransition;
 import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import com.horatime.api.util.FuzzyLocationIndex;
+import com.horatime.api.util.LocationSnapshot;
+import com.horatime.api.util.LocationSuggester;
+import com.horatime.api.util.MeetingPlanner;
+import com.horatime.api.util.OffsetIndex;
 import com.horatime.api.util.TimezoneUtil;
+import com.horatime.api.util.TransitionTable;
+import com.horatime.api.util.ZoneDisplayNames;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Serviço responsável pela lógica de negócios de fuso horário.
@@ -16,6 +40,25 @@ import java.time.ZoneId;
 @Service
 public class TimezoneService {
 
+    private static final String LOCATION_NOT_FOUND = "Localidade não encontrada no banco de dados";
+    private static final String COORDINATE_NOT_FOUND = "Coordenada fora das fronteiras de fusos conhecidas";
+
+    private final TimezoneMetrics metrics;
+
+    /**
+     * Falhas recentes, respondidas sem busca parcial nem aproximada.
+     */
+    private final NegativeLookupCache negativeCache;
+
+    /**
+     * @param metrics Tempos por etapa e contadores de caminho de resolução.
+     * @param negativeCache Cache de pesquisas sem resultado.
+     */
+    public TimezoneService(TimezoneMetrics metrics, NegativeLookupCache negativeCache) {
+        this.metrics = metrics;
+        this.negativeCache = negativeCache;
+    }
+
     /**
      * Obtém a hora atual para uma localidade especificada.
      *
@@ -23,28 +66,195 @@ public class TimezoneService {
      * @return TimezoneResponse contendo a hora atual e informações do fuso horário.
      */
     public TimezoneResponse getCurrentTime(String location) {
-        log.info("Buscando hora atual para a localidade: {}", location);
+        return getCurrentTime(location, false);
+    }
+
+    /**
+     * Obtém a hora atual para uma localidade, opcionalmente tolerando erros de digitação.
+     * A busca aproximada só é executada quando as buscas exata e parcial não encontram resultado.
+     *
+     * @param location Nome da cidade ou país pesquisada pelo usuário.
+     * @param fuzzy true para habilitar a busca aproximada.
+     * @return TimezoneResponse contendo a hora atual e informações do fuso horário.
+     */
+    public TimezoneResponse getCurrentTime(String location, boolean fuzzy) {
+        return getCurrentTime(location, fuzzy, Instant.now());
+    }
+
+    /**
+     * Obtém a hora atual para várias localidades em uma única chamada.
+     * O relógio é lido uma única vez, de modo que todas as respostas do lote
+     * refletem o mesmo instante.
+     *
+     * @param locations Lista de nomes de cidades ou países.
+     * @return Lista com uma TimezoneResponse por entrada, na mesma ordem.
+     */
+    public List<TimezoneResponse> getCurrentTimes(List<String> locations) {
+        return getCurrentTimes(locations, false);
+    }
+
+    /**
+     * Obtém a hora atual para várias localidades, opcionalmente tolerando erros de digitação.
+     *
+     * @param locations Lista de nomes de cidades ou países.
+     * @param fuzzy true para habilitar a busca aproximada.
+     * @return Lista com uma TimezoneResponse por entrada, na mesma ordem.
+     */
+    public List<TimezoneResponse> getCurrentTimes(List<String> locations, boolean fuzzy) {
+        return getCurrentTimes(locations, fuzzy, -1);
+    }
+
+    /**
+     * Obtém a hora atual para várias localidades, com nomes do fuso no idioma informado.
+     *
+     * @param locations Lista de nomes de cidades ou países.
+     * @param fuzzy true para habilitar a busca aproximada.
+     * @param localeIndex Índice do idioma ({@link ZoneDisplayNames#localeIndex(String)}), ou -1 para omitir os nomes.
+     * @return Lista com uma TimezoneResponse por entrada, na mesma ordem.
+     */
+    public List<TimezoneResponse> getCurrentTimes(List<String> locations, boolean fuzzy, int localeIndex) {
+        Instant now = Instant.now();
+        List<TimezoneResponse> responses = new ArrayList<>(locations.size());
+        for (String location : locations) {
+            responses.add(getCurrentTime(location, fuzzy, now, localeIndex));
+        }
+        return responses;
+    }
+
+    /**
+     * Obtém a hora de uma localidade em um instante já lido do relógio.
+     *
+     * @param location Nome da cidade ou país pesquisada pelo usuário.
+     * @param fuzzy true para habilitar a busca aproximada.
+     * @param now Instante de referência.
+     * @return TimezoneResponse contendo a hora e informações do fuso horário.
+     */
+    public TimezoneResponse getCurrentTime(String location, boolean fuzzy, Instant now) {
+        return getCurrentTime(location, fuzzy, now, -1);
+    }
+
+    /**
+     * Obtém a hora de uma localidade em um instante já lido do relógio, com nomes do fuso no idioma informado.
+     *
+     * @param location Nome da cidade ou país pesquisada pelo usuário.
+     * @param fuzzy true para habilitar a busca aproximada.
+     * @param now Instante de referência.
+     * @param localeIndex Índice do idioma ({@link ZoneDisplayNames#localeIndex(String)}), ou -1 para omitir os nomes.
+     * @return TimezoneResponse contendo a hora e informações do fuso horário.
+     */
+    public TimezoneResponse getCurrentTime(String location, boolean fuzzy, Instant now, int localeIndex) {
+        log.debug("Buscando hora atual para a localidade: {}", location);
 
         // Validar entrada
         if (location == null || location.trim().isEmpty()) {
-            log.warn("Localidade vazia ou nula fornecida");
+            log.debug("Localidade vazia ou nula fornecida");
             return buildErrorResponse(location, "Localidade não pode estar vazia");
         }
 
-        // Obter o ZoneId para a localidade
-        ZoneId zoneId = TimezoneUtil.getZoneIdForLocation(location);
+        // Obter o ZoneId para a localidade, etapa por etapa (mesma ordem de TimezoneUtil.getZoneIdForLocation)
+        String dataVersion = TimezoneUtil.getDataVersion();
+        long start = System.nanoTime();
+        String normalizedLocation = TimezoneUtil.normalizeLocation(location);
+        long normalized = System.nanoTime();
+        metrics.recordStage(Stage.NORMALIZE, normalized - start);
+
+        ZoneId zoneId = TimezoneUtil.findExactZoneId(normalizedLocation);
+        long exact = System.nanoTime();
+        metrics.recordStage(Stage.EXACT, exact - normalized);
+        MatchPath path = MatchPath.EXACT;
+
+        // Texto que já falhou com os dados atuais: nenhuma busca adicional
+        if (zoneId == null && negativeCache.isKnownMiss(normalizedLocation, fuzzy)) {
+            metrics.recordMatch(MatchPath.MISS);
+            return buildNotFoundResponse(location, LOCATION_NOT_FOUND);
+        }
+
+        if (zoneId == null) {
+            zoneId = TimezoneUtil.findPartialZoneId(normalizedLocation);
+            metrics.recordStage(Stage.PARTIAL, System.nanoTime() - exact);
+            path = MatchPath.PARTIAL;
+        }
+
+        // Busca aproximada apenas quando solicitada e após falha das buscas exata e parcial
+        FuzzyLocationIndex.Match fuzzyMatch = null;
+        if (zoneId == null && fuzzy) {
+            long fuzzyStart = System.nanoTime();
+            fuzzyMatch = TimezoneUtil.findClosestLocation(location);
+            metrics.recordStage(Stage.FUZZY, System.nanoTime() - fuzzyStart);
+            if (fuzzyMatch != null) {
+                log.debug("Localidade '{}' aproximada para '{}' (distância {})",
+                        location, fuzzyMatch.key(), fuzzyMatch.distance());
+                zoneId = fuzzyMatch.zoneId();
+                path = MatchPath.FUZZY;
+            }
+        }
+
+        if (zoneId == null) {
+            metrics.recordMatch(MatchPath.MISS);
+            negativeCache.recordMiss(normalizedLocation, fuzzy, dataVersion);
+            log.debug("Localidade não encontrada: {}", location);
+            return buildNotFoundResponse(location, LOCATION_NOT_FOUND);
+        }
+        metrics.recordMatch(path);
+
+        TimezoneResponse response = buildSuccessResponse(location, zoneId, now, localeIndex, "Hora obtida com sucesso", fuzzyMatch);
+        response.setMatchPath(path);
+        return response;
+    }
+
+    /**
+     * Obtém a hora no fuso horário de uma coordenada, resolvido pelas fronteiras de fusos
+     * ({@link TimezoneUtil#findZoneIdByCoordinates}). Fora das fronteiras conhecidas, a resposta é
+     * NOT_FOUND: o fuso náutico só é usado quando as fronteiras são completas e o ponto é alto-mar.
+     *
+     * @param latitude Latitude em graus (-90 a 90).
+     * @param longitude Longitude em graus (-180 a 180).
+     * @param now Instante de referência.
+     * @param localeIndex Índice do idioma ({@link ZoneDisplayNames#localeIndex(String)}), ou -1 para omitir os nomes.
+     * @return TimezoneResponse com a coordenada no campo location.
+     */
+    public TimezoneResponse getCurrentTimeAt(double latitude, double longitude, Instant now, int localeIndex) {
+        String location = latitude + "," + longitude;
+        log.debug("Buscando hora atual para a coordenada: {}", location);
 
+        ZoneId zoneId = TimezoneUtil.findZoneIdByCoordinates(latitude, longitude);
         if (zoneId == null) {
-            log.warn("Localidade não encontrada: {}", location);
-            return buildErrorResponse(location, "Localidade não encontrada no banco de dados");
+            metrics.recordMatch(MatchPath.MISS);
+            log.debug("Coordenada fora das fronteiras conhecidas: {}", location);
+            return buildNotFoundResponse(location, COORDINATE_NOT_FOUND);
         }
+        metrics.recordMatch(MatchPath.GEO);
+
+        TimezoneResponse response = buildSuccessResponse(location, zoneId, now, localeIndex, "Hora obtida com sucesso", null);
+        response.setMatchPath(MatchPath.GEO);
+        return response;
+    }
 
+    /**
+     * Monta a resposta de sucesso: hora, offset e (se solicitados) nomes do fuso no mesmo instante.
+     */
+    private TimezoneResponse buildSuccessResponse(String location, ZoneId zoneId, Instant now, int localeIndex,
+                                                  String message, FuzzyLocationIndex.Match fuzzyMatch) {
         try {
-            // Obter a hora atual no fuso horário
-            LocalDateTime currentTime = TimezoneUtil.getCurrentTimeInZone(zoneId);
-            String utcOffset = TimezoneUtil.getUtcOffset(zoneId);
+            // Obter offset e hora a partir do mesmo instante (consistentes mesmo na virada do horário de verão)
+            long clockStart = System.nanoTime();
+            ZoneOffset offset = TimezoneUtil.getOffset(zoneId, now);
+            LocalDateTime currentTime = TimezoneUtil.getTimeAtOffset(now, offset);
+            String utcOffset = offset.getId();
+            metrics.recordStage(Stage.CLOCK, System.nanoTime() - clockStart);
 
-            log.info("Hora obtida com sucesso para {}: {}", location, currentTime);
+            // Nomes localizados: uma consulta à tabela pré-calculada
+            String timezoneName = null;
+            String timezoneAbbreviation = null;
+            if (localeIndex >= 0) {
+                boolean daylight = !offset.equals(zoneId.getRules().getStandardOffset(now));
+                timezoneName = ZoneDisplayNames.name(zoneId, localeIndex,
+                        daylight ? ZoneDisplayNames.Style.DAYLIGHT : ZoneDisplayNames.Style.STANDARD);
+                timezoneAbbreviation = ZoneDisplayNames.name(zoneId, localeIndex,
+                        daylight ? ZoneDisplayNames.Style.SHORT_DAYLIGHT : ZoneDisplayNames.Style.SHORT_STANDARD);
+            }
+
+            log.debug("Hora obtida com sucesso para {}: {}", location, currentTime);
 
             // Construir resposta de sucesso
             return TimezoneResponse.builder()
@@ -52,22 +262,253 @@ public class TimezoneService {
                     .timezone(zoneId.getId())
                     .currentTime(currentTime)
                     .utcOffset(utcOffset)
+                    .timezoneName(timezoneName)
+                    .timezoneAbbreviation(timezoneAbbreviation)
                     .status("SUCCESS")
-                    .message("Hora obtida com sucesso")
+                    .message(message)
+                    .matchedLocation(fuzzyMatch != null ? fuzzyMatch.key() : null)
+                    .matchDistance(fuzzyMatch != null ? fuzzyMatch.distance() : null)
                     .build();
 
         } catch (Exception e) {
             log.error("Erro ao obter hora para a localidade: {}", location, e);
-            return buildErrorResponse(location, "Erro ao processar a requisição: " + e.getMessage());
+            return buildInternalErrorResponse(location, "Erro ao processar a requisição: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sugere localidades para autocompletar a partir do texto digitado.
+     *
+     * @param prefix Início do nome da cidade ou país.
+     * @param limit Quantidade máxima de sugestões.
+     * @return Lista de sugestões em ordem alfabética.
+     */
+    public List<LocationSuggestion> suggestLocations(String prefix, int limit) {
+        List<LocationSuggester.Suggestion> suggestions = TimezoneUtil.suggestLocations(prefix, limit);
+        List<LocationSuggestion> result = new ArrayList<>(suggestions.size());
+        for (LocationSuggester.Suggestion suggestion : suggestions) {
+            result.add(LocationSuggestion.builder()
+                    .location(suggestion.location())
+                    .timezone(suggestion.zoneId().getId())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Resolve o fuso horário de uma localidade (busca exata e parcial), sem calcular a hora.
+     *
+     * @param location Nome da cidade ou país.
+     * @return ZoneId correspondente, ou null se não encontrado.
+     */
+    public ZoneId findZoneId(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        return TimezoneUtil.getZoneIdForLocation(location);
+    }
+
+    /**
+     * Lista os fusos horários que estão em um offset UTC no instante informado, com as localidades de cada um.
+     * Usa o índice reverso do snapshot atual: o custo não depende da quantidade de localidades.
+     * Só entram as localidades do snapshot (mapa embutido e recargas); os nomes do gazetteer
+     * binário não são indexados por fuso e ficam de fora.
+     *
+     * @param offset Offset UTC procurado.
+     * @param now Instante de referência.
+     * @return Fusos em ordem alfabética de identificador (lista vazia se nenhum).
+     */
+    public List<ZoneAliases> findZonesByOffset(ZoneOffset offset, Instant now) {
+        LocationSnapshot snapshot = TimezoneUtil.getSnapshot();
+        List<ZoneId> zones = snapshot.getOffsetIndex().zonesAt(offset, now.getEpochSecond());
+        List<ZoneAliases> result = new ArrayList<>(zones.size());
+        for (ZoneId zone : zones) {
+            result.add(ZoneAliases.builder()
+                    .timezone(zone.getId())
+                    .utcOffset(offset.getId())
+                    .locations(snapshot.getAliases(zone))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Lista as localidades que levam a um fuso horário.
+     * Como em {@link #findZonesByOffset}, os nomes do gazetteer binário não são incluídos.
+     *
+     * @param zone Identificador do fuso horário (ex: "Europe/Paris").
+     * @param now Instante de referência para o offset atual.
+     * @return ZoneAliases do fuso, ou null se o identificador for inválido ou nenhuma localidade levar a ele.
+     */
+    public ZoneAliases findAliases(String zone, Instant now) {
+        ZoneId zoneId;
+        try {
+            zoneId = ZoneId.of(zone.trim());
+        } catch (Exception e) {
+            return null;
+        }
+        List<String> aliases = TimezoneUtil.getSnapshot().getAliases(zoneId);
+        if (aliases.isEmpty()) {
+            return null;
+        }
+        return ZoneAliases.builder()
+                .timezone(zoneId.getId())
+                .utcOffset(TimezoneUtil.getOffset(zoneId, now).getId())
+                .locations(aliases)
+                .build();
+    }
+
+    /**
+     * Instante da próxima transição de offset entre os fusos indexados (validade de /zones e /aliases).
+     * O índice é avançado até o instante informado antes da leitura.
+     *
+     * @param now Instante de referência.
+     * @return Segundos desde a época, ou Long.MAX_VALUE se não houver transições futuras.
+     */
+    public long getNextOffsetTransition(Instant now) {
+        OffsetIndex index = TimezoneUtil.getSnapshot().getOffsetIndex();
+        index.groups(now.getEpochSecond());
+        return index.getNextTransition();
+    }
+
+    /**
+     * Versão do agrupamento por offset: muda a cada recarga dos dados e a cada transição aplicada.
+     * O índice é avançado até o instante informado antes da leitura, de modo que a versão nunca
+     * fica para trás de uma transição que já ocorreu (ler antes de montar a resposta).
+     *
+     * @param now Instante de referência.
+     * @return Identificador da versão.
+     */
+    public String getOffsetIndexVersion(Instant now) {
+        OffsetIndex index = TimezoneUtil.getSnapshot().getOffsetIndex();
+        index.groups(now.getEpochSecond());
+        return getDataVersion() + "-" + index.getGeneration();
+    }
+
+    /**
+     * Monta a grade de horários locais de várias localidades e as horas em que o expediente
+     * de todas se sobrepõe.
+     *
+     * @param locations Localidades participantes.
+     * @param from Primeiro dia (UTC) do período.
+     * @param to Último dia (UTC) do período, inclusivo.
+     * @param workStart Início do expediente local.
+     * @param workEnd Fim do expediente local.
+     * @return MeetingPlanResponse com a grade, ou status NOT_FOUND se alguma localidade não existir.
+     */
+    public MeetingPlanResponse planMeeting(List<String> locations, LocalDate from, LocalDate to,
+                                           LocalTime workStart, LocalTime workEnd) {
+        ZoneId[] zones = new ZoneId[locations.size()];
+        List<LocationSuggestion> resolved = new ArrayList<>(locations.size());
+        for (int i = 0; i < zones.length; i++) {
+            zones[i] = findZoneId(locations.get(i));
+            if (zones[i] == null) {
+                return MeetingPlanResponse.builder()
+                        .status("NOT_FOUND")
+                        .message("Localidade não encontrada no banco de dados: " + locations.get(i))
+                        .build();
+            }
+            resolved.add(LocationSuggestion.builder().location(locations.get(i)).timezone(zones[i].getId()).build());
+        }
+
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        int hours = (int) (ChronoUnit.DAYS.between(from, to) + 1) * 24;
+        MeetingPlanner.Plan plan = MeetingPlanner.plan(zones, start, hours,
+                workStart.getHour() * 60 + workStart.getMinute(), workEnd.getHour() * 60 + workEnd.getMinute());
+
+        // Horas consecutivas de sobreposição viram um único intervalo
+        List<MeetingSlot> overlaps = new ArrayList<>();
+        boolean[] overlap = plan.overlap();
+        for (int h = 0; h < hours; h++) {
+            if (!overlap[h]) {
+                continue;
+            }
+            int first = h;
+            while (h + 1 < hours && overlap[h + 1]) {
+                h++;
+            }
+            overlaps.add(MeetingSlot.builder()
+                    .start(start.plusSeconds(first * 3600L))
+                    .end(start.plusSeconds((h + 1) * 3600L))
+                    .hours(h + 1 - first)
+                    .build());
         }
+
+        return MeetingPlanResponse.builder()
+                .locations(resolved)
+                .from(start)
+                .to(start.plusSeconds(hours * 3600L))
+                .workStart(workStart.toString())
+                .workEnd(workEnd.toString())
+                .localTimes(plan.localTimes())
+                .overlaps(overlaps)
+                .status("SUCCESS")
+                .build();
+    }
+
+    /**
+     * Lista as mudanças de offset de uma localidade num período, a partir da tabela de
+     * transições compartilhada ({@link TransitionTable}).
+     *
+     * @param location Nome da cidade ou país.
+     * @param from Primeiro dia (UTC) do período.
+     * @param to Último dia (UTC) do período, inclusivo; no máximo em {@link TransitionTable#LAST_YEAR}.
+     * @return TransitionCalendar com as transições, ou status NOT_FOUND se a localidade não existir.
+     */
+    public TransitionCalendar getTransitions(String location, LocalDate from, LocalDate to) {
+        ZoneId zoneId = findZoneId(location);
+        if (zoneId == null) {
+            return TransitionCalendar.builder()
+                    .location(location)
+                    .status("NOT_FOUND")
+                    .message(LOCATION_NOT_FOUND)
+                    .build();
+        }
+
+        long start = from.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        long end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        TransitionTable table = TransitionTable.of(zoneId);
+        List<OffsetTransition> transitions = new ArrayList<>();
+        for (int i = table.firstAtOrAfter(start); i < table.size() && table.instant(i) < end; i++) {
+            long instant = table.instant(i);
+            int before = table.offsetBefore(i);
+            int after = table.offsetAfter(i);
+            transitions.add(OffsetTransition.builder()
+                    .instant(Instant.ofEpochSecond(instant))
+                    .type(after > before ? "GAP" : "OVERLAP")
+                    .offsetBefore(ZoneOffset.ofTotalSeconds(before).getId())
+                    .offsetAfter(ZoneOffset.ofTotalSeconds(after).getId())
+                    .localBefore(LocalDateTime.ofEpochSecond(instant, 0, ZoneOffset.ofTotalSeconds(before)))
+                    .localAfter(LocalDateTime.ofEpochSecond(instant, 0, ZoneOffset.ofTotalSeconds(after)))
+                    .durationSeconds(Math.abs(after - before))
+                    .build());
+        }
+
+        return TransitionCalendar.builder()
+                .location(location)
+                .timezone(zoneId.getId())
+                .from(Instant.ofEpochSecond(start))
+                .to(Instant.ofEpochSecond(end))
+                .transitions(transitions)
+                .status("SUCCESS")
+                .build();
+    }
+
+    /**
+     * Retorna a versão atual dos dados de localidades (usada em ETags).
+     *
+     * @return Identificador da versão dos dados.
+     */
+    public String getDataVersion() {
+        return TimezoneUtil.getDataVersion();
     }
 
     /**
-     * Constrói uma resposta de erro padronizada.
+     * Constrói uma resposta de erro padronizada para pesquisas sem resultado.
      *
      * @param location Localidade pesquisada.
      * @param message Mensagem de erro.
-     * @return TimezoneResponse com status de erro.
+     * @return TimezoneResponse com status NOT_FOUND.
      */
     private TimezoneResponse buildErrorResponse(String location, String message) {
         return TimezoneResponse.builder()
@@ -76,4 +517,32 @@ public class TimezoneService {
                 .message(message)
                 .build();
     }
+
+    /**
+     * Constrói a resposta de uma falha interna ao calcular a hora (não é uma pesquisa sem resultado).
+     *
+     * @param location Localidade pesquisada.
+     * @param message Mensagem de erro.
+     * @return TimezoneResponse com status ERROR.
+     */
+    private TimezoneResponse buildInternalErrorResponse(String location, String message) {
+        return TimezoneResponse.builder()
+                .location(location)
+                .status("ERROR")
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Constrói a resposta de localidade não encontrada, marcada com o caminho MISS.
+     *
+     * @param location Localidade ou coordenada pesquisada.
+     * @param message Mensagem de erro.
+     * @return TimezoneResponse com status NOT_FOUND.
+     */
+    private TimezoneResponse buildNotFoundResponse(String location, String message) {
+        TimezoneResponse response = buildErrorResponse(location, message);
+        response.setMatchPath(MatchPath.MISS);
+        return response;
+    }
 }
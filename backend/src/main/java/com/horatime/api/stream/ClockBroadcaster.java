@@ -0,0 +1,338 @@
+package com.horatime.api.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.ClockTick;
+import com.horatime.api.util.TimezoneUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Difusor do stream de relógio (Server-Sent Events).
+ *
+ * Um único agendador dispara no início de cada segundo, calcula e serializa o evento de
+ * cada fuso horário assinado uma única vez e o entrega a todos os assinantes daquele fuso.
+ * As escritas são feitas em threads virtuais, para que um cliente lento não atrase os demais;
+ * se a entrega anterior de um assinante ainda não terminou, o segundo é pulado para ele
+ * (nada é enfileirado, então a memória por assinante é constante).
+ *
+ * A difusão não depende do modelo web: no modo servlet cada assinante é um {@link SseEmitter}
+ * ({@link #subscribe(Set, Object)}); no modo reativo, o controller registra uma {@link Connection}
+ * própria com {@link #register(Set, Connection)}.
+ */
+@Slf4j
+@Component
+public class ClockBroadcaster {
+
+    /**
+     * Destino dos eventos de um assinante.
+     */
+    @FunctionalInterface
+    public interface Connection {
+
+        /**
+         * Entrega os eventos "tick" de um segundo, um por fuso assinado.
+         *
+         * @param id Identificador do evento (segundo, em segundos desde a época).
+         * @param ticks {@link ClockTick} de cada fuso, já serializados em JSON.
+         * @throws IOException Se o cliente desconectou; o assinante sai da difusão.
+         */
+        void send(String id, List<String> ticks) throws IOException;
+    }
+
+    /**
+     * Assinante do stream. Reserva uma vaga no limite de assinantes ao ser registrado e só passa
+     * a receber os segundos depois de {@link #start()}; {@link #cancel()} devolve a vaga.
+     */
+    public final class Subscription {
+        private final Connection connection;
+        private final ZoneId[] zones;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Subscription(Connection connection, ZoneId[] zones) {
+            this.connection = connection;
+            this.zones = zones;
+        }
+
+        /**
+         * Passa a entregar os segundos ao assinante (depois do evento "subscribed").
+         */
+        public void start() {
+            for (ZoneId zone : zones) {
+                subscribersByZone.compute(zone, (z, set) -> {
+                    Set<Subscription> result = set == null ? ConcurrentHashMap.newKeySet() : set;
+                    result.add(this);
+                    return result;
+                });
+            }
+            if (removed.get()) {
+                // Desconectado durante o registro
+                removeFromZones(this);
+            }
+        }
+
+        /**
+         * Encerra a assinatura; chamadas repetidas são ignoradas.
+         */
+        public void cancel() {
+            unsubscribe(this);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final TimezoneMetrics metrics;
+
+    @Value("${horatime.stream.max-subscribers:20000}")
+    private int maxSubscribers;
+
+    @Value("${horatime.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    /**
+     * Assinantes agrupados por fuso horário.
+     */
+    private final Map<ZoneId, Set<Subscription>> subscribersByZone = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService ticker;
+    private ExecutorService writers;
+
+    /**
+     * @param objectMapper Serializador dos eventos.
+     * @param metrics Onde são publicados os assinantes e os segundos entregues ou pulados.
+     */
+    public ClockBroadcaster(ObjectMapper objectMapper, TimezoneMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Inicia o agendador alinhado ao início do próximo segundo.
+     */
+    @PostConstruct
+    public void start() {
+        metrics.registerGauge("horatime.stream.subscribers", "Conexões abertas no stream de relógio", subscriberCount::get);
+        metrics.registerFunctionCounter("horatime.stream.delivered", "Segundos entregues aos assinantes", delivered, LongAdder::sum);
+        metrics.registerFunctionCounter("horatime.stream.skipped", "Segundos pulados porque a entrega anterior ainda não terminou", skipped, LongAdder::sum);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writers = Executors.newVirtualThreadPerTaskExecutor();
+        scheduleNextTick();
+    }
+
+    /**
+     * Encerra o agendador e fecha as conexões servlet abertas (as reativas são encerradas pelo servidor).
+     */
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        writers.shutdownNow();
+        for (SseEmitter emitter : emitters) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Registra um novo assinante para os fusos horários informados. O assinante só recebe os
+     * segundos depois de {@link Subscription#start()} e deve ser encerrado com {@link Subscription#cancel()}.
+     *
+     * @param zones Fusos horários assinados (sem repetição).
+     * @param connection Destino dos eventos.
+     * @return Assinatura, ou null se o limite de assinantes foi atingido.
+     */
+    public Subscription register(Set<ZoneId> zones, Connection connection) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        return new Subscription(connection, zones.toArray(new ZoneId[0]));
+    }
+
+    /**
+     * Registra um novo assinante servlet para os fusos horários informados.
+     *
+     * @param zones Fusos horários assinados (sem repetição).
+     * @param welcome Dados do evento "subscribed", enviado antes do primeiro segundo.
+     * @return Emitter a ser devolvido pelo controller, ou null se o limite de assinantes foi atingido.
+     */
+    public SseEmitter subscribe(Set<ZoneId> zones, Object welcome) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = register(zones, (id, ticks) -> {
+            Set<ResponseBodyEmitter.DataWithMediaType> payload = new LinkedHashSet<>();
+            for (String tick : ticks) {
+                payload.addAll(SseEmitter.event().id(id).name("tick").data(tick, MediaType.APPLICATION_JSON).build());
+            }
+            emitter.send(payload);
+        });
+        if (subscription == null) {
+            return null;
+        }
+        emitters.add(emitter);
+        Runnable cancel = () -> {
+            emitters.remove(emitter);
+            subscription.cancel();
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+
+        try {
+            emitter.send(SseEmitter.event().name("subscribed").reconnectTime(1000).data(welcome, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            cancel.run();
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscription.start();
+        return emitter;
+    }
+
+    /**
+     * Tempo máximo de uma conexão (horatime.stream.timeout-ms); o navegador reconecta sozinho.
+     *
+     * @return Duração em milissegundos.
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Retorna a quantidade de conexões abertas.
+     *
+     * @return Número de assinantes.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void unsubscribe(Subscription subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        removeFromZones(subscriber);
+        subscriberCount.decrementAndGet();
+    }
+
+    private void removeFromZones(Subscription subscriber) {
+        for (ZoneId zone : subscriber.zones) {
+            subscribersByZone.computeIfPresent(zone, (z, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private void scheduleNextTick() {
+        long now = System.currentTimeMillis();
+        long delay = 1000 - (now % 1000);
+        try {
+            ticker.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // Agendador encerrado
+        }
+    }
+
+    /**
+     * Calcula o evento de cada fuso assinado e o entrega aos assinantes.
+     */
+    void tick() {
+        try {
+            if (!subscribersByZone.isEmpty()) {
+                broadcast(Instant.now());
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao difundir o segundo do stream de relógio", e);
+        } finally {
+            scheduleNextTick();
+        }
+    }
+
+    private void broadcast(Instant now) {
+        String id = Long.toString(now.getEpochSecond());
+        Map<ZoneId, String> events = new HashMap<>();
+        Set<Subscription> recipients = new LinkedHashSet<>();
+        for (Map.Entry<ZoneId, Set<Subscription>> entry : subscribersByZone.entrySet()) {
+            events.put(entry.getKey(), encode(entry.getKey(), now));
+            recipients.addAll(entry.getValue());
+        }
+
+        for (Subscription subscriber : recipients) {
+            if (!subscriber.inFlight.compareAndSet(false, true)) {
+                skipped.increment();
+                continue;
+            }
+            List<String> payload = new ArrayList<>(subscriber.zones.length);
+            for (ZoneId zone : subscriber.zones) {
+                String event = events.get(zone);
+                if (event != null) {
+                    payload.add(event);
+                }
+            }
+            writers.execute(() -> deliver(subscriber, id, payload));
+        }
+    }
+
+    private void deliver(Subscription subscriber, String id, List<String> payload) {
+        try {
+            subscriber.connection.send(id, payload);
+            delivered.increment();
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado: o servidor também notifica a conexão, mas o assinante já sai da difusão
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.inFlight.set(false);
+        }
+    }
+
+    /**
+     * Serializa o evento de um fuso horário para o instante informado.
+     */
+    String encode(ZoneId zone, Instant now) {
+        ZoneOffset offset = TimezoneUtil.getOffset(zone, now);
+        ClockTick tick = ClockTick.builder()
+                .timezone(zone.getId())
+                .currentTime(TimezoneUtil.getTimeAtOffset(now, offset))
+                .utcOffset(offset.getId())
+                .build();
+        try {
+            return objectMapper.writeValueAsString(tick);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar evento do stream", e);
+        }
+    }
+}
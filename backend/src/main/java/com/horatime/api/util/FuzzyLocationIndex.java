@@ -0,0 +1,193 @@
+package com.horatime.api.util;
+
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice imutável para busca aproximada de localidades (tolerante a erros de digitação).
+ *
+ * As chaves normalizadas são organizadas em uma BK-tree sob a distância de Levenshtein.
+ * A desigualdade triangular permite descartar subárvores inteiras, de modo que uma busca
+ * com distância máxima pequena visita apenas uma fração das chaves.
+ */
+public final class FuzzyLocationIndex {
+
+    /**
+     * Resultado de uma busca aproximada.
+     *
+     * @param key Chave normalizada encontrada.
+     * @param zoneId ZoneId associado à chave.
+     * @param distance Distância de edição entre a consulta e a chave.
+     */
+    public record Match(String key, ZoneId zoneId, int distance) {
+    }
+
+    private final String[] words;
+    private final ZoneId[] zones;
+    private final int maxWordLength;
+
+    // Filhos de cada nó em formato CSR, ordenados pela distância até o pai
+    private final int[] childStart;
+    private final int[] childDistance;
+    private final int[] childNode;
+
+    /**
+     * Constrói o índice a partir de um mapa localidade → identificador de fuso horário.
+     * Entradas com fuso horário inválido são ignoradas.
+     *
+     * @param locationToTimezone Mapa de localidades para ZoneIds.
+     */
+    public FuzzyLocationIndex(Map<String, String> locationToTimezone) {
+        Map<String, ZoneId> folded = new TreeMap<>();
+        for (Map.Entry<String, String> entry : new TreeMap<>(locationToTimezone).entrySet()) {
+            String key = LocationMatcher.fold(entry.getKey());
+            if (key.isEmpty() || folded.containsKey(key)) {
+                continue;
+            }
+            try {
+                folded.put(key, ZoneId.of(entry.getValue()));
+            } catch (Exception e) {
+                // Fuso horário inválido: entrada ignorada
+            }
+        }
+
+        this.words = folded.keySet().toArray(new String[0]);
+        this.zones = folded.values().toArray(new ZoneId[0]);
+        this.maxWordLength = maxLength(words);
+
+        List<Map<Integer, Integer>> children = new ArrayList<>(words.length);
+        int[] buffer = new int[2 * (maxWordLength + 1)];
+        for (int i = 0; i < words.length; i++) {
+            children.add(new TreeMap<>());
+            if (i == 0) {
+                continue;
+            }
+            int node = 0;
+            while (true) {
+                int d = distance(words[i], words[node], buffer);
+                Integer child = children.get(node).get(d);
+                if (child == null) {
+                    children.get(node).put(d, i);
+                    break;
+                }
+                node = child;
+            }
+        }
+
+        int edges = 0;
+        for (Map<Integer, Integer> c : children) {
+            edges += c.size();
+        }
+        this.childStart = new int[words.length + 1];
+        this.childDistance = new int[edges];
+        this.childNode = new int[edges];
+        int pos = 0;
+        for (int i = 0; i < words.length; i++) {
+            childStart[i] = pos;
+            for (Map.Entry<Integer, Integer> e : children.get(i).entrySet()) {
+                childDistance[pos] = e.getKey();
+                childNode[pos] = e.getValue();
+                pos++;
+            }
+        }
+        childStart[words.length] = pos;
+    }
+
+    /**
+     * Procura a chave mais próxima da consulta dentro de uma distância máxima.
+     * Empates são resolvidos pela ordem alfabética da chave.
+     *
+     * @param location Texto pesquisado (qualquer caixa, com ou sem acentos).
+     * @param maxDistance Distância de edição máxima aceita.
+     * @return Melhor correspondência, ou null se nenhuma chave estiver dentro do limite.
+     */
+    public Match findClosest(String location, int maxDistance) {
+        String query = LocationMatcher.fold(location);
+        if (query.isEmpty() || words.length == 0) {
+            return null;
+        }
+
+        int[] buffer = new int[2 * (Math.max(query.length(), maxWordLength) + 1)];
+        int best = -1;
+        int bestDistance = maxDistance + 1;
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        pending.push(0);
+        while (!pending.isEmpty()) {
+            int node = pending.pop();
+            int d = distance(query, words[node], buffer);
+            if (d < bestDistance || (d == bestDistance && best >= 0 && words[node].compareTo(words[best]) < 0)) {
+                best = node;
+                bestDistance = d;
+            }
+            // Só filhos com distância em [d - limite, d + limite] podem conter candidatos
+            int limit = Math.min(bestDistance, maxDistance);
+            for (int e = childStart[node]; e < childStart[node + 1]; e++) {
+                if (Math.abs(childDistance[e] - d) <= limit) {
+                    pending.push(childNode[e]);
+                }
+            }
+        }
+
+        return best < 0 ? null : new Match(words[best], zones[best], bestDistance);
+    }
+
+    /**
+     * Distância máxima padrão para uma consulta, proporcional ao seu tamanho.
+     *
+     * @param location Texto pesquisado.
+     * @return 1 para textos curtos, até 3 para textos longos.
+     */
+    public static int defaultMaxDistance(String location) {
+        int length = LocationMatcher.fold(location).length();
+        if (length <= 4) {
+            return 1;
+        }
+        return length <= 8 ? 2 : 3;
+    }
+
+    /**
+     * Retorna a quantidade de chaves indexadas.
+     *
+     * @return Número de chaves distintas após a normalização.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    private static int maxLength(String[] values) {
+        int max = 0;
+        for (String v : values) {
+            max = Math.max(max, v.length());
+        }
+        return max;
+    }
+
+    /**
+     * Distância de Levenshtein usando duas linhas de um buffer reaproveitado.
+     */
+    private static int distance(String a, String b, int[] buffer) {
+        int n = b.length();
+        int prev = 0;
+        int cur = n + 1;
+        for (int j = 0; j <= n; j++) {
+            buffer[prev + j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            buffer[cur] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= n; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                buffer[cur + j] = Math.min(Math.min(buffer[cur + j - 1] + 1, buffer[prev + j] + 1),
+                        buffer[prev + j - 1] + cost);
+            }
+            int tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return buffer[prev + n];
+    }
+}
@@ -0,0 +1,187 @@
+package com.horatime.api.util;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Compila um gazetteer em CSV para o formato binário lido por {@link MappedGazetteer}.
+ *
+ * Formato do CSV (UTF-8), uma localidade por linha:
+ * <pre>
+ * # comentário
+ * America/Sao_Paulo,São Paulo,Sampa,SP
+ * Europe/Paris,Paris
+ * </pre>
+ * A primeira coluna é o fuso horário; as demais são o nome e seus apelidos.
+ * Linhas com fuso horário inválido são ignoradas. Em nomes repetidos, vale a primeira ocorrência.
+ *
+ * Uso: {@code java -cp target/classes com.horatime.api.util.GazetteerCompiler cidades.csv gazetteer.bin}
+ */
+public final class GazetteerCompiler {
+
+    /**
+     * Identificador do formato ("HTGA").
+     */
+    static final int MAGIC = 0x48544741;
+
+    /**
+     * Versão atual do formato binário.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Tamanho do cabeçalho em bytes.
+     */
+    static final int HEADER_SIZE = 24;
+
+    private GazetteerCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: GazetteerCompiler <entrada.csv> <saida.bin>");
+            System.exit(1);
+        }
+
+        Map<String, String> locations;
+        try (Reader reader = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            locations = readCsv(reader);
+        }
+        try (OutputStream out = Files.newOutputStream(Path.of(args[1]))) {
+            int entries = compile(locations, out);
+            System.out.println("Gazetteer compilado: " + entries + " nomes em " + args[1]);
+        }
+    }
+
+    /**
+     * Lê um gazetteer em CSV.
+     *
+     * @param reader Conteúdo do CSV.
+     * @return Mapa nome → fuso horário, na ordem do arquivo (sem validar os fusos horários).
+     * @throws IOException Se houver erro de leitura.
+     */
+    public static Map<String, String> readCsv(Reader reader) throws IOException {
+        Map<String, String> locations = new LinkedHashMap<>();
+        BufferedReader lines = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            String timezone = columns[0].strip();
+            for (int i = 1; i < columns.length; i++) {
+                String name = columns[i].strip();
+                if (!name.isEmpty()) {
+                    locations.putIfAbsent(name, timezone);
+                }
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Grava o gazetteer no formato binário.
+     *
+     * Layout (big-endian): cabeçalho {magic, versão, nº de fusos, nº de nomes,
+     * CRC32C do restante do arquivo (long)}, tabela de fusos (u16 tamanho + UTF-8), tabela de offsets (int por nome) e
+     * registros ordenados pelos bytes da chave normalizada
+     * (u16 tamanho + chave, u16 índice do fuso, u16 tamanho + nome para exibição).
+     *
+     * @param locations Mapa nome → fuso horário.
+     * @param out Destino dos bytes.
+     * @return Quantidade de nomes gravados.
+     * @throws IOException Se houver erro de escrita.
+     */
+    public static int compile(Map<String, String> locations, OutputStream out) throws IOException {
+        List<String> zoneTable = new ArrayList<>();
+        Map<String, Integer> zoneIndex = new HashMap<>();
+        Map<String, byte[][]> byKey = new HashMap<>();
+
+        for (Map.Entry<String, String> entry : locations.entrySet()) {
+            String key = LocationMatcher.fold(entry.getKey());
+            if (key.isEmpty() || byKey.containsKey(key)) {
+                continue;
+            }
+            String zone;
+            try {
+                zone = ZoneId.of(entry.getValue().strip()).getId();
+            } catch (Exception e) {
+                continue;
+            }
+            Integer index = zoneIndex.get(zone);
+            if (index == null) {
+                index = zoneTable.size();
+                zoneTable.add(zone);
+                zoneIndex.put(zone, index);
+            }
+            byKey.put(key, new byte[][]{
+                    key.getBytes(StandardCharsets.UTF_8),
+                    {(byte) (index >>> 8), (byte) (int) index},
+                    entry.getKey().strip().getBytes(StandardCharsets.UTF_8)
+            });
+        }
+        if (zoneTable.size() > 0xFFFF) {
+            throw new IOException("Quantidade de fusos horários excede o limite do formato");
+        }
+
+        byte[][][] records = byKey.values().toArray(new byte[0][][]);
+        Arrays.sort(records, (a, b) -> Arrays.compareUnsigned(a[0], b[0]));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(body);
+
+        int position = HEADER_SIZE;
+        for (String zone : zoneTable) {
+            byte[] bytes = zone.getBytes(StandardCharsets.UTF_8);
+            data.writeShort(bytes.length);
+            data.write(bytes);
+            position += 2 + bytes.length;
+        }
+
+        position += 4 * records.length;
+        for (byte[][] record : records) {
+            data.writeInt(position);
+            position += 2 + record[0].length + 2 + 2 + record[2].length;
+        }
+
+        for (byte[][] record : records) {
+            data.writeShort(record[0].length);
+            data.write(record[0]);
+            data.write(record[1]);
+            data.writeShort(record[2].length);
+            data.write(record[2]);
+        }
+
+        // O checksum vai no cabeçalho para que a versão dos dados seja lida sem percorrer o arquivo
+        CRC32C crc = new CRC32C();
+        crc.update(body.toByteArray());
+
+        DataOutputStream header = new DataOutputStream(new BufferedOutputStream(out));
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(zoneTable.size());
+        header.writeInt(records.length);
+        header.writeLong(crc.getValue());
+        body.writeTo(header);
+        header.flush();
+        return records.length;
+    }
+}
@@ -0,0 +1,357 @@
+package com.horatime.api.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice espacial de fronteiras de fusos horários para resolver coordenadas (latitude/longitude).
+ *
+ * As fronteiras são lidas de um GeoJSON (FeatureCollection com {@code properties.tzid} e geometrias
+ * Polygon ou MultiPolygon, no formato do timezone-boundary-builder) e rasterizadas uma única vez
+ * em uma grade regular de células. Cada célula guarda:
+ * <ul>
+ *   <li>o polígono que a cobre inteiramente (resposta direta, sem nenhum teste geométrico);</li>
+ *   <li>a lista de polígonos cujas arestas a cruzam (fronteira: teste ponto-em-polígono só nesses candidatos);</li>
+ *   <li>ou nada (fora de qualquer fronteira conhecida, tipicamente oceano).</li>
+ * </ul>
+ * A consulta custa um acesso ao array da grade e, apenas perto das fronteiras, alguns testes de raio.
+ * A instância é imutável e pode ser compartilhada entre threads.
+ */
+public final class GeoZoneIndex {
+
+    private static final int EMPTY = -1;
+
+    private final double cellSize;
+    private final int cols;
+    private final int rows;
+    private final ZoneId[] polygonZones;
+    private final double[][][] polygonRings;
+    private final int[] cells;
+    private final int[][] borderCandidates;
+    private final List<String> skippedZones;
+
+    private GeoZoneIndex(List<ZoneId> zones, List<double[][]> polygons, double cellSize, List<String> skippedZones) {
+        if (!(cellSize > 0 && cellSize <= 10)) {
+            throw new IllegalArgumentException("Tamanho de célula inválido: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.cols = (int) Math.ceil(360 / cellSize);
+        this.rows = (int) Math.ceil(180 / cellSize);
+        this.polygonZones = zones.toArray(ZoneId[]::new);
+        this.polygonRings = polygons.toArray(double[][][]::new);
+        this.skippedZones = List.copyOf(skippedZones);
+
+        int[] interior = new int[cols * rows];
+        Arrays.fill(interior, EMPTY);
+        Map<Integer, List<Integer>> border = new HashMap<>();
+        for (int p = 0; p < polygonRings.length; p++) {
+            markBorderCells(p, border);
+            fillInterior(p, interior, border);
+        }
+
+        this.cells = interior;
+        this.borderCandidates = new int[border.size()][];
+        int next = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : border.entrySet()) {
+            int cell = entry.getKey();
+            Set<Integer> candidates = new LinkedHashSet<>(entry.getValue());
+            if (interior[cell] != EMPTY) {
+                candidates.add(interior[cell]);
+            }
+            borderCandidates[next] = candidates.stream().mapToInt(Integer::intValue).toArray();
+            cells[cell] = -(next + 2);
+            next++;
+        }
+    }
+
+    /**
+     * Lê as fronteiras de um GeoJSON. Fusos desconhecidos pelo JDK são ignorados e listados
+     * em {@link #skippedZones()}.
+     *
+     * @param in Conteúdo GeoJSON (FeatureCollection).
+     * @param cellSize Lado da célula da grade, em graus (ex: 0.5).
+     * @return Índice pronto para consulta.
+     * @throws IOException se o conteúdo não for um JSON válido.
+     */
+    public static GeoZoneIndex read(InputStream in, double cellSize) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(in);
+        JsonNode features = root == null ? null : root.get("features");
+        if (features == null || !features.isArray()) {
+            throw new IllegalArgumentException("GeoJSON sem FeatureCollection");
+        }
+
+        List<ZoneId> zones = new ArrayList<>();
+        List<double[][]> polygons = new ArrayList<>();
+        Set<String> skipped = new LinkedHashSet<>();
+        for (JsonNode feature : features) {
+            String tzid = feature.path("properties").path("tzid").asText("");
+            JsonNode geometry = feature.path("geometry");
+            ZoneId zoneId;
+            try {
+                zoneId = ZoneId.of(tzid);
+            } catch (DateTimeException e) {
+                skipped.add(tzid);
+                continue;
+            }
+
+            JsonNode coordinates = geometry.path("coordinates");
+            switch (geometry.path("type").asText()) {
+                case "Polygon" -> {
+                    zones.add(zoneId);
+                    polygons.add(readRings(coordinates));
+                }
+                case "MultiPolygon" -> {
+                    for (JsonNode polygon : coordinates) {
+                        zones.add(zoneId);
+                        polygons.add(readRings(polygon));
+                    }
+                }
+                default -> skipped.add(tzid);
+            }
+        }
+        return new GeoZoneIndex(zones, polygons, cellSize, new ArrayList<>(skipped));
+    }
+
+    /**
+     * Converte os anéis de um Polygon GeoJSON ({@code [[[lon, lat], ...], ...]}) em arrays
+     * intercalados {@code [lon0, lat0, lon1, lat1, ...]}; o primeiro é o contorno, os demais são buracos.
+     */
+    private static double[][] readRings(JsonNode rings) {
+        double[][] result = new double[rings.size()][];
+        for (int r = 0; r < rings.size(); r++) {
+            JsonNode ring = rings.get(r);
+            double[] points = new double[ring.size() * 2];
+            for (int i = 0; i < ring.size(); i++) {
+                points[2 * i] = ring.get(i).get(0).asDouble();
+                points[2 * i + 1] = ring.get(i).get(1).asDouble();
+            }
+            result[r] = points;
+        }
+        return result;
+    }
+
+    /**
+     * Resolve o fuso horário de uma coordenada.
+     *
+     * @param latitude Latitude em graus (-90 a 90).
+     * @param longitude Longitude em graus (-180 a 180).
+     * @return Fuso cuja fronteira contém o ponto, ou null se nenhuma fronteira conhecida o contiver.
+     */
+    public ZoneId find(double latitude, double longitude) {
+        int col = Math.min((int) ((longitude + 180) / cellSize), cols - 1);
+        int row = Math.min((int) ((latitude + 90) / cellSize), rows - 1);
+        if (col < 0 || row < 0) {
+            return null;
+        }
+
+        int cell = cells[row * cols + col];
+        if (cell >= 0) {
+            return polygonZones[cell];
+        }
+        if (cell == EMPTY) {
+            return null;
+        }
+        for (int polygon : borderCandidates[-cell - 2]) {
+            if (contains(polygonRings[polygon], longitude, latitude)) {
+                return polygonZones[polygon];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fuso náutico (Etc/GMT±N) de uma longitude: uma hora a cada 15°, usado em alto-mar.
+     * O sinal dos identificadores Etc é invertido (Etc/GMT-3 = UTC+03:00).
+     *
+     * @param longitude Longitude em graus (-180 a 180).
+     * @return ZoneId Etc/GMT correspondente.
+     */
+    public static ZoneId nauticalZone(double longitude) {
+        int hours = (int) Math.round(longitude / 15);
+        if (hours == 0) {
+            return ZoneId.of("Etc/GMT");
+        }
+        return ZoneId.of(hours > 0 ? "Etc/GMT-" + hours : "Etc/GMT+" + -hours);
+    }
+
+    /**
+     * Quantidade de polígonos indexados (cada parte de um MultiPolygon conta separadamente).
+     */
+    public int polygonCount() {
+        return polygonRings.length;
+    }
+
+    /**
+     * Quantidade de células de fronteira, que exigem teste ponto-em-polígono.
+     */
+    public int borderCellCount() {
+        return borderCandidates.length;
+    }
+
+    /**
+     * Identificadores de fuso presentes no arquivo, mas ignorados (desconhecidos pelo JDK ou sem polígono).
+     */
+    public List<String> skippedZones() {
+        return skippedZones;
+    }
+
+    /**
+     * Marca como fronteira do polígono todas as células cruzadas por alguma de suas arestas.
+     */
+    private void markBorderCells(int polygon, Map<Integer, List<Integer>> border) {
+        for (double[] ring : polygonRings[polygon]) {
+            int n = ring.length / 2;
+            for (int i = 0; i < n; i++) {
+                int j = (i + 1) % n;
+                double x0 = ring[2 * i], y0 = ring[2 * i + 1];
+                double x1 = ring[2 * j], y1 = ring[2 * j + 1];
+
+                int minCol = colOf(Math.min(x0, x1));
+                int maxCol = colOf(Math.max(x0, x1));
+                int minRow = rowOf(Math.min(y0, y1));
+                int maxRow = rowOf(Math.max(y0, y1));
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int col = minCol; col <= maxCol; col++) {
+                        double minX = col * cellSize - 180;
+                        double minY = row * cellSize - 90;
+                        if (segmentHitsBox(x0, y0, x1, y1, minX, minY, minX + cellSize, minY + cellSize)) {
+                            List<Integer> candidates = border.computeIfAbsent(row * cols + col, cell -> new ArrayList<>(2));
+                            if (candidates.isEmpty() || candidates.get(candidates.size() - 1) != polygon) {
+                                candidates.add(polygon);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Preenche, linha a linha, as células cujo centro está dentro do polígono e que nenhuma aresta cruza:
+     * essas células estão inteiramente dentro dele. Células cobertas por polígonos de fusos diferentes
+     * (dados sobrepostos) viram fronteira com ambos os candidatos.
+     */
+    private void fillInterior(int polygon, int[] interior, Map<Integer, List<Integer>> border) {
+        double[][] rings = polygonRings[polygon];
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (double[] ring : rings) {
+            for (int i = 1; i < ring.length; i += 2) {
+                minY = Math.min(minY, ring[i]);
+                maxY = Math.max(maxY, ring[i]);
+            }
+        }
+
+        double[] crossings = new double[16];
+        for (int row = rowOf(minY); row <= rowOf(maxY); row++) {
+            double y = (row + 0.5) * cellSize - 90;
+            int count = 0;
+            for (double[] ring : rings) {
+                int n = ring.length / 2;
+                for (int i = 0, j = n - 1; i < n; j = i++) {
+                    double yi = ring[2 * i + 1], yj = ring[2 * j + 1];
+                    if ((yi > y) != (yj > y)) {
+                        if (count == crossings.length) {
+                            crossings = Arrays.copyOf(crossings, count * 2);
+                        }
+                        double xi = ring[2 * i], xj = ring[2 * j];
+                        crossings[count++] = xi + (y - yi) * (xj - xi) / (yj - yi);
+                    }
+                }
+            }
+            Arrays.sort(crossings, 0, count);
+
+            for (int k = 0; k + 1 < count; k += 2) {
+                int firstCol = Math.max(0, (int) Math.ceil((crossings[k] + 180) / cellSize - 0.5));
+                int lastCol = Math.min(cols - 1, (int) Math.ceil((crossings[k + 1] + 180) / cellSize - 0.5) - 1);
+                for (int col = firstCol; col <= lastCol; col++) {
+                    int cell = row * cols + col;
+                    List<Integer> candidates = border.get(cell);
+                    if (candidates != null && candidates.contains(polygon)) {
+                        continue;
+                    }
+                    int current = interior[cell];
+                    if (current == EMPTY || polygonZones[current].equals(polygonZones[polygon])) {
+                        interior[cell] = polygon;
+                    } else {
+                        List<Integer> overlap = border.computeIfAbsent(cell, c -> new ArrayList<>(2));
+                        overlap.add(current);
+                        overlap.add(polygon);
+                    }
+                }
+            }
+        }
+    }
+
+    private int colOf(double longitude) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((longitude + 180) / cellSize)));
+    }
+
+    private int rowOf(double latitude) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellSize)));
+    }
+
+    /**
+     * Teste ponto-em-polígono por lançamento de raio (regra par-ímpar sobre contorno e buracos).
+     */
+    private static boolean contains(double[][] rings, double x, double y) {
+        boolean inside = false;
+        for (double[] ring : rings) {
+            int n = ring.length / 2;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double xi = ring[2 * i], yi = ring[2 * i + 1];
+                double xj = ring[2 * j], yj = ring[2 * j + 1];
+                if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * Recorte de Liang-Barsky: indica se o segmento toca o retângulo (bordas inclusas).
+     */
+    private static boolean segmentHitsBox(double x0, double y0, double x1, double y1,
+                                          double minX, double minY, double maxX, double maxY) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double[] p = {-dx, dx, -dy, dy};
+        double[] q = {x0 - minX, maxX - x0, y0 - minY, maxY - y0};
+        double t0 = 0;
+        double t1 = 1;
+        for (int i = 0; i < 4; i++) {
+            if (p[i] == 0) {
+                if (q[i] < 0) {
+                    return false;
+                }
+            } else {
+                double t = q[i] / p[i];
+                if (p[i] < 0) {
+                    if (t > t1) {
+                        return false;
+                    }
+                    t0 = Math.max(t0, t);
+                } else {
+                    if (t < t0) {
+                        return false;
+                    }
+                    t1 = Math.min(t1, t);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,163 @@
+package com.horatime.api.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filtro de Bloom de trigramas das chaves de localidade, usado para rejeitar consultas que
+ * certamente não têm correspondência parcial nem aproximada, sem percorrer os índices.
+ *
+ * O filtro guarda dois conjuntos no mesmo array de bits (com sementes diferentes):
+ * todos os trigramas de todas as chaves e o trigrama inicial de cada chave. Com eles:
+ * <ul>
+ *   <li>se a consulta estivesse contida numa chave, todos os seus trigramas estariam no filtro;</li>
+ *   <li>se uma chave estivesse contida na consulta, algum trigrama da consulta seria inicial de chave
+ *       (chaves com menos de três caracteres são verificadas diretamente);</li>
+ *   <li>se uma chave estivesse a distância de edição d da consulta, pelo menos |consulta| - 2 - 3d
+ *       trigramas da consulta estariam no filtro (cada edição destrói no máximo três trigramas).</li>
+ * </ul>
+ * Um "não" do filtro é definitivo; um "talvez" segue para a busca normal. A instância é imutável.
+ */
+public final class LocationBloomFilter {
+
+    private static final int HASHES = 7;
+    private static final int BITS_PER_GRAM = 10;
+    private static final long PREFIX_SEED = 0x9E3779B97F4A7C15L;
+
+    private final long[] bits;
+    private final int mask;
+    private final String[] shortKeys;
+
+    /**
+     * Constrói o filtro a partir das chaves de localidade.
+     *
+     * @param keys Nomes de localidade (normalizados com {@link LocationMatcher#fold} na construção).
+     */
+    public LocationBloomFilter(Collection<String> keys) {
+        List<String> folded = new ArrayList<>(keys.size());
+        List<String> shortOnes = new ArrayList<>();
+        int grams = 0;
+        for (String key : keys) {
+            String f = LocationMatcher.fold(key);
+            if (f.length() < 3) {
+                if (!f.isEmpty()) {
+                    shortOnes.add(f);
+                }
+            } else {
+                folded.add(f);
+                grams += f.length() - 1;
+            }
+        }
+
+        int size = Integer.highestOneBit(Math.max(1024, grams * BITS_PER_GRAM - 1)) << 1;
+        this.bits = new long[size >>> 6];
+        this.mask = size - 1;
+        this.shortKeys = shortOnes.toArray(new String[0]);
+        for (String f : folded) {
+            add(gram(f, 0) ^ PREFIX_SEED);
+            for (int i = 0; i + 3 <= f.length(); i++) {
+                add(gram(f, i));
+            }
+        }
+    }
+
+    /**
+     * Indica se a consulta pode ter correspondência parcial (conter ou estar contida numa chave).
+     *
+     * @param folded Consulta normalizada com {@link LocationMatcher#fold}.
+     * @return false apenas quando nenhuma chave pode corresponder.
+     */
+    public boolean mayMatchPartial(String folded) {
+        int length = folded.length();
+        if (length == 0) {
+            return false;
+        }
+        if (length < 3) {
+            return true;
+        }
+
+        // Consulta contida em alguma chave: todos os trigramas presentes
+        boolean allPresent = true;
+        for (int i = 0; i + 3 <= length && allPresent; i++) {
+            allPresent = mightContain(gram(folded, i));
+        }
+        if (allPresent) {
+            return true;
+        }
+
+        // Chave contida na consulta: algum trigrama da consulta inicia uma chave
+        for (int i = 0; i + 3 <= length; i++) {
+            if (mightContain(gram(folded, i) ^ PREFIX_SEED)) {
+                return true;
+            }
+        }
+        for (String key : shortKeys) {
+            if (folded.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica se alguma chave pode estar a no máximo {@code maxDistance} edições da consulta.
+     *
+     * @param folded Consulta normalizada com {@link LocationMatcher#fold}.
+     * @param maxDistance Distância de edição máxima da busca aproximada.
+     * @return false apenas quando nenhuma chave pode estar dentro do limite.
+     */
+    public boolean mayMatchFuzzy(String folded, int maxDistance) {
+        int required = folded.length() - 2 - 3 * maxDistance;
+        if (required <= 0) {
+            return !folded.isEmpty();
+        }
+        int present = 0;
+        for (int i = 0; i + 3 <= folded.length(); i++) {
+            if (mightContain(gram(folded, i)) && ++present >= required) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(long gram) {
+        long hash = mix(gram);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(long gram) {
+        long hash = mix(gram);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * Finalizador do MurmurHash3 (fmix64): espalha os 48 bits do trigrama pelos 64 bits.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,373 @@
+package com.horatime.api.util;
+
+import java.text.Normalizer;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice imutável para correspondência parcial de localidades.
+ *
+ * As chaves são normalizadas (minúsculas, sem acentos) e indexadas em duas estruturas
+ * construídas uma única vez:
+ * <ul>
+ *   <li>um autômato de sufixos generalizado, que responde "qual chave contém a consulta";</li>
+ *   <li>um autômato Aho-Corasick, que responde "qual chave está contida na consulta".</li>
+ * </ul>
+ * Ambas as consultas custam tempo proporcional ao tamanho do texto pesquisado,
+ * independentemente da quantidade de chaves.
+ *
+ * A ordem de preferência é determinística: primeiro a menor chave que contém a consulta;
+ * na falta dela, a maior chave contida na consulta. Empates são resolvidos pela ordem alfabética.
+ */
+public final class LocationMatcher {
+
+    /**
+     * Chaves normalizadas, ordenadas por tamanho e depois alfabeticamente.
+     */
+    private final String[] keys;
+
+    /**
+     * ZoneId de cada chave, no mesmo índice de {@link #keys}.
+     */
+    private final ZoneId[] zones;
+
+    // Autômato de sufixos (arestas em formato CSR, ordenadas por caractere)
+    private final int[] samEdgeStart;
+    private final char[] samEdgeChar;
+    private final int[] samEdgeTarget;
+    private final int[] samBest;
+
+    // Aho-Corasick (arestas em formato CSR, ordenadas por caractere)
+    private final int[] acEdgeStart;
+    private final char[] acEdgeChar;
+    private final int[] acEdgeTarget;
+    private final int[] acFail;
+    private final int[] acBest;
+
+    /**
+     * Constrói o índice a partir de um mapa localidade → identificador de fuso horário.
+     * Entradas com fuso horário inválido são ignoradas.
+     *
+     * @param locationToTimezone Mapa de localidades para ZoneIds.
+     */
+    public LocationMatcher(Map<String, String> locationToTimezone) {
+        // TreeMap garante que, em caso de colisão após a normalização, vence sempre a mesma entrada
+        Map<String, ZoneId> folded = new HashMap<>();
+        for (Map.Entry<String, String> entry : new TreeMap<>(locationToTimezone).entrySet()) {
+            String key = fold(entry.getKey());
+            if (key.isEmpty() || folded.containsKey(key)) {
+                continue;
+            }
+            try {
+                folded.put(key, ZoneId.of(entry.getValue()));
+            } catch (Exception e) {
+                // Fuso horário inválido: entrada ignorada
+            }
+        }
+
+        this.keys = folded.keySet().toArray(new String[0]);
+        Arrays.sort(keys, Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+        this.zones = new ZoneId[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            zones[i] = folded.get(keys[i]);
+        }
+
+        // Autômato de sufixos generalizado
+        SuffixAutomatonBuilder sam = new SuffixAutomatonBuilder();
+        for (String key : keys) {
+            sam.add(key);
+        }
+        int[] best = new int[sam.size()];
+        int[] stamp = new int[sam.size()];
+        Arrays.fill(best, -1);
+        Arrays.fill(stamp, -1);
+        for (int i = 0; i < keys.length; i++) {
+            int state = 0;
+            for (int j = 0; j < keys[i].length(); j++) {
+                state = sam.next.get(state).get(keys[i].charAt(j));
+                // Marca o estado e seus links de sufixo; as chaves são visitadas em ordem de preferência
+                for (int u = state; u > 0 && stamp[u] != i; u = sam.link.get(u)) {
+                    stamp[u] = i;
+                    if (best[u] < 0) {
+                        best[u] = i;
+                    }
+                }
+            }
+        }
+        this.samBest = best;
+        int[][] samCsr = new int[2][];
+        this.samEdgeChar = toCsr(sam.next, samCsr);
+        this.samEdgeStart = samCsr[0];
+        this.samEdgeTarget = samCsr[1];
+
+        // Aho-Corasick
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(-1);
+        for (int i = 0; i < keys.length; i++) {
+            int node = 0;
+            for (int j = 0; j < keys[i].length(); j++) {
+                char c = keys[i].charAt(j);
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(-1);
+                    trie.get(node).put(c, child);
+                }
+                node = child;
+            }
+            terminal.set(node, i);
+        }
+        int[][] acCsr = new int[2][];
+        this.acEdgeChar = toCsr(trie, acCsr);
+        this.acEdgeStart = acCsr[0];
+        this.acEdgeTarget = acCsr[1];
+        this.acFail = new int[trie.size()];
+        this.acBest = new int[trie.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        acBest[0] = -1;
+        for (int child : trie.get(0).values()) {
+            acFail[child] = 0;
+            acBest[child] = terminal.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : trie.get(node).entrySet()) {
+                int child = edge.getValue();
+                int f = acFail[node];
+                while (f > 0 && acStep(f, edge.getKey()) < 0) {
+                    f = acFail[f];
+                }
+                int target = acStep(f, edge.getKey());
+                acFail[child] = target >= 0 && target != child ? target : 0;
+                acBest[child] = preferLonger(terminal.get(child), acBest[acFail[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Procura uma correspondência parcial para a consulta.
+     *
+     * @param location Texto pesquisado (qualquer caixa, com ou sem acentos).
+     * @return ZoneId da melhor correspondência, ou null se nenhuma chave corresponder.
+     */
+    public ZoneId findPartial(String location) {
+        int index = findPartialIndex(fold(location));
+        return index < 0 ? null : zones[index];
+    }
+
+    /**
+     * Procura a chave normalizada que corresponde parcialmente à consulta.
+     *
+     * @param location Texto pesquisado (qualquer caixa, com ou sem acentos).
+     * @return Chave normalizada da melhor correspondência, ou null se não houver.
+     */
+    public String findPartialKey(String location) {
+        int index = findPartialIndex(fold(location));
+        return index < 0 ? null : keys[index];
+    }
+
+    /**
+     * Retorna a quantidade de chaves indexadas.
+     *
+     * @return Número de chaves distintas após a normalização.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private int findPartialIndex(String query) {
+        if (query.isEmpty()) {
+            return -1;
+        }
+
+        // 1. Menor chave que contém a consulta
+        int state = 0;
+        for (int i = 0; i < query.length() && state >= 0; i++) {
+            state = step(samEdgeStart, samEdgeChar, samEdgeTarget, state, query.charAt(i));
+        }
+        if (state > 0 && samBest[state] >= 0) {
+            return samBest[state];
+        }
+
+        // 2. Maior chave contida na consulta
+        int best = -1;
+        int node = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            int next = acStep(node, c);
+            while (next < 0 && node > 0) {
+                node = acFail[node];
+                next = acStep(node, c);
+            }
+            node = Math.max(next, 0);
+            best = preferLonger(best, acBest[node]);
+        }
+        return best;
+    }
+
+    private int acStep(int node, char c) {
+        return step(acEdgeStart, acEdgeChar, acEdgeTarget, node, c);
+    }
+
+    private int preferLonger(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        int la = keys[a].length();
+        int lb = keys[b].length();
+        if (la != lb) {
+            return la > lb ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Normaliza um texto para comparação: remove espaços nas extremidades,
+     * converte para minúsculas e remove acentos.
+     *
+     * @param text Texto original.
+     * @return Texto normalizado (nunca null).
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String trimmed = text.trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (trimmed.charAt(i) > 0x7F) {
+                return Normalizer.normalize(trimmed, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            }
+        }
+        return trimmed;
+    }
+
+    private static int step(int[] edgeStart, char[] edgeChar, int[] edgeTarget, int state, char c) {
+        int lo = edgeStart[state];
+        int hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChar[mid];
+            if (m < c) {
+                lo = mid + 1;
+            } else if (m > c) {
+                hi = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converte listas de adjacência em arrays compactos (CSR).
+     *
+     * @param next Transições de cada estado.
+     * @param out Recebe {edgeStart, edgeTarget}.
+     * @return Caracteres das arestas, ordenados dentro de cada estado.
+     */
+    private static char[] toCsr(List<? extends Map<Character, Integer>> next, int[][] out) {
+        int edges = 0;
+        for (Map<Character, Integer> m : next) {
+            edges += m.size();
+        }
+        int[] start = new int[next.size() + 1];
+        char[] chars = new char[edges];
+        int[] targets = new int[edges];
+        int pos = 0;
+        for (int s = 0; s < next.size(); s++) {
+            start[s] = pos;
+            for (Map.Entry<Character, Integer> e : new TreeMap<>(next.get(s)).entrySet()) {
+                chars[pos] = e.getKey();
+                targets[pos] = e.getValue();
+                pos++;
+            }
+        }
+        start[next.size()] = pos;
+        out[0] = start;
+        out[1] = targets;
+        return chars;
+    }
+
+    /**
+     * Construtor incremental de autômato de sufixos generalizado (várias palavras).
+     */
+    private static final class SuffixAutomatonBuilder {
+        private final List<Map<Character, Integer>> next = new ArrayList<>();
+        private final List<Integer> link = new ArrayList<>();
+        private final List<Integer> len = new ArrayList<>();
+
+        SuffixAutomatonBuilder() {
+            newState(0, -1, new HashMap<>());
+        }
+
+        int size() {
+            return next.size();
+        }
+
+        void add(String word) {
+            int last = 0;
+            for (int i = 0; i < word.length(); i++) {
+                last = extend(last, word.charAt(i));
+            }
+        }
+
+        private int newState(int length, int suffixLink, Map<Character, Integer> transitions) {
+            next.add(transitions);
+            link.add(suffixLink);
+            len.add(length);
+            return next.size() - 1;
+        }
+
+        private int extend(int last, char c) {
+            Integer existing = next.get(last).get(c);
+            if (existing != null) {
+                if (len.get(last) + 1 == len.get(existing)) {
+                    return existing;
+                }
+                return split(last, existing, c);
+            }
+
+            int cur = newState(len.get(last) + 1, 0, new HashMap<>());
+            int p = last;
+            while (p != -1 && !next.get(p).containsKey(c)) {
+                next.get(p).put(c, cur);
+                p = link.get(p);
+            }
+            if (p != -1) {
+                int q = next.get(p).get(c);
+                if (len.get(p) + 1 == len.get(q)) {
+                    link.set(cur, q);
+                } else {
+                    link.set(cur, split(p, q, c));
+                }
+            }
+            return cur;
+        }
+
+        private int split(int p, int q, char c) {
+            int clone = newState(len.get(p) + 1, link.get(q), new HashMap<>(next.get(q)));
+            while (p != -1 && Integer.valueOf(q).equals(next.get(p).get(c))) {
+                next.get(p).put(c, clone);
+                p = link.get(p);
+            }
+            link.set(q, clone);
+            return clone;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.horatime.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Conjunto imutável de localidades e de todos os índices derivados dele.
+ *
+ * Um snapshot é construído por completo (e validado) antes de ser publicado no
+ * {@link TimezoneUtil}; depois disso nunca é alterado. Os leitores apenas leem a referência
+ * volátil do snapshot atual, sem bloqueio, e sempre enxergam um conjunto consistente:
+ * mapa exato, índice parcial, índice aproximado, filtro de Bloom de rejeição, autocompletar e índices reversos
+ * (fuso → nomes, offset → fusos) da mesma versão. O único estado que evolui é o agrupamento
+ * por offset, atualizado pelo próprio {@link OffsetIndex} nas transições de horário de verão.
+ */
+public final class LocationSnapshot {
+
+    private final Map<String, String> locations;
+    private final Map<String, ZoneId> exact;
+    private final Map<ZoneId, List<String>> aliasesByZone;
+    private final OffsetIndex offsetIndex;
+    private final LocationMatcher partialMatcher;
+    private final FuzzyLocationIndex fuzzyIndex;
+    private final LocationBloomFilter bloomFilter;
+    private final LocationSuggester suggester;
+    private final long checksum;
+
+    private LocationSnapshot(Map<String, String> locations, Map<String, ZoneId> exact) {
+        this.locations = locations;
+        this.exact = exact;
+        this.aliasesByZone = aliasesByZone(exact);
+        this.offsetIndex = new OffsetIndex(aliasesByZone.keySet(), Instant.now().getEpochSecond());
+        this.partialMatcher = new LocationMatcher(locations);
+        this.fuzzyIndex = new FuzzyLocationIndex(locations);
+        this.bloomFilter = new LocationBloomFilter(locations.keySet());
+        this.suggester = new LocationSuggester(locations);
+        this.checksum = checksum(locations);
+    }
+
+    /**
+     * Constrói um snapshot, validando todos os fusos horários com {@link ZoneId#of}.
+     * Os nomes são normalizados como em {@link TimezoneUtil#normalizeLocation(String)}.
+     *
+     * @param source Mapa localidade → identificador de fuso horário.
+     * @return Snapshot pronto para publicação.
+     * @throws IllegalArgumentException Se algum fuso horário for inválido (com a lista das entradas inválidas).
+     */
+    public static LocationSnapshot of(Map<String, String> source) {
+        Map<String, String> locations = new LinkedHashMap<>();
+        Map<String, ZoneId> exact = new HashMap<>();
+        Map<String, ZoneId> parsed = new HashMap<>();
+        List<String> invalid = new ArrayList<>();
+        for (Map.Entry<String, String> entry : source.entrySet()) {
+            String name = entry.getKey() == null ? "" : entry.getKey().trim().toLowerCase(Locale.ROOT);
+            String zone = entry.getValue() == null ? "" : entry.getValue().trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            ZoneId zoneId = parsed.get(zone);
+            if (zoneId == null) {
+                try {
+                    zoneId = ZoneId.of(zone);
+                    parsed.put(zone, zoneId);
+                } catch (Exception e) {
+                    invalid.add(entry.getKey() + "=" + zone);
+                    continue;
+                }
+            }
+            locations.put(name, zone);
+            exact.put(name, zoneId);
+        }
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException("Fusos horários inválidos (" + invalid.size() + "): "
+                    + String.join(", ", invalid.subList(0, Math.min(invalid.size(), 10))));
+        }
+        return new LocationSnapshot(Collections.unmodifiableMap(locations), Map.copyOf(exact));
+    }
+
+    /**
+     * Busca exata (ZoneId já validado na construção).
+     *
+     * @param normalizedLocation Texto normalizado.
+     * @return ZoneId, ou null se o nome não existir.
+     */
+    public ZoneId findExact(String normalizedLocation) {
+        return exact.get(normalizedLocation);
+    }
+
+    /**
+     * Retorna os nomes que levam a um fuso horário (índice reverso).
+     *
+     * @param zoneId Fuso horário.
+     * @return Nomes normalizados em ordem alfabética (lista vazia se nenhum).
+     */
+    public List<String> getAliases(ZoneId zoneId) {
+        return aliasesByZone.getOrDefault(zoneId, List.of());
+    }
+
+    /**
+     * Retorna os fusos horários distintos do snapshot.
+     *
+     * @return Conjunto imutável de fusos.
+     */
+    public Set<ZoneId> getZones() {
+        return aliasesByZone.keySet();
+    }
+
+    /**
+     * Retorna o índice offset atual → fusos dos fusos do snapshot, atualizado nas transições.
+     *
+     * @return Índice de offsets.
+     */
+    public OffsetIndex getOffsetIndex() {
+        return offsetIndex;
+    }
+
+    public LocationMatcher getPartialMatcher() {
+        return partialMatcher;
+    }
+
+    public FuzzyLocationIndex getFuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    /**
+     * Retorna o filtro que prova a ausência de correspondência parcial ou aproximada.
+     *
+     * @return Filtro de Bloom das chaves do snapshot.
+     */
+    public LocationBloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    public LocationSuggester getSuggester() {
+        return suggester;
+    }
+
+    /**
+     * Retorna os nomes de localidades do snapshot.
+     *
+     * @return Conjunto imutável de nomes normalizados.
+     */
+    public Set<String> getLocations() {
+        return locations.keySet();
+    }
+
+    /**
+     * Retorna o mapa localidade → fuso horário do snapshot.
+     *
+     * @return Mapa imutável.
+     */
+    public Map<String, String> asMap() {
+        return locations;
+    }
+
+    /**
+     * Retorna a quantidade de localidades.
+     *
+     * @return Número de nomes.
+     */
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Checksum do conteúdo (independente da ordem das entradas).
+     *
+     * @return CRC32C das entradas ordenadas.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    private static Map<ZoneId, List<String>> aliasesByZone(Map<String, ZoneId> exact) {
+        Map<ZoneId, List<String>> aliases = new HashMap<>();
+        for (Map.Entry<String, ZoneId> entry : exact.entrySet()) {
+            aliases.computeIfAbsent(entry.getValue(), zone -> new ArrayList<>()).add(entry.getKey());
+        }
+        Map<ZoneId, List<String>> sorted = new HashMap<>();
+        for (Map.Entry<ZoneId, List<String>> entry : aliases.entrySet()) {
+            Collections.sort(entry.getValue());
+            sorted.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(sorted);
+    }
+
+    private static long checksum(Map<String, String> locations) {
+        CRC32C crc = new CRC32C();
+        for (Map.Entry<String, String> entry : new TreeMap<>(locations).entrySet()) {
+            crc.update((entry.getKey() + '=' + entry.getValue() + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.horatime.api.util;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice imutável de prefixos para autocompletar nomes de localidades.
+ *
+ * As chaves normalizadas ficam em um array ordenado; uma busca binária encontra
+ * o início do intervalo com o prefixo e as sugestões são lidas sequencialmente.
+ * O custo de cada consulta é O(log n + limite), sem depender do total de chaves.
+ */
+public final class LocationSuggester {
+
+    /**
+     * Sugestão de localidade.
+     *
+     * @param location Nome para exibição (com acentos, quando disponível).
+     * @param zoneId ZoneId associado à localidade.
+     */
+    public record Suggestion(String location, ZoneId zoneId) {
+    }
+
+    private final String[] keys;
+    private final String[] displayNames;
+    private final ZoneId[] zones;
+
+    /**
+     * Constrói o índice a partir de um mapa localidade → identificador de fuso horário.
+     * Variações que diferem apenas por acentos geram uma única sugestão, exibida com acentos.
+     *
+     * @param locationToTimezone Mapa de localidades para ZoneIds.
+     */
+    public LocationSuggester(Map<String, String> locationToTimezone) {
+        TreeMap<String, String> display = new TreeMap<>();
+        TreeMap<String, ZoneId> zoneByKey = new TreeMap<>();
+        for (Map.Entry<String, String> entry : new TreeMap<>(locationToTimezone).entrySet()) {
+            String key = LocationMatcher.fold(entry.getKey());
+            if (key.isEmpty()) {
+                continue;
+            }
+            ZoneId zoneId;
+            try {
+                zoneId = ZoneId.of(entry.getValue());
+            } catch (Exception e) {
+                continue;
+            }
+            String name = entry.getKey().trim();
+            String current = display.get(key);
+            // Prefere a grafia original com acentos à versão já normalizada
+            if (current == null || (current.equals(key) && !name.equals(key))) {
+                display.put(key, name);
+                zoneByKey.putIfAbsent(key, zoneId);
+            }
+        }
+
+        this.keys = display.keySet().toArray(new String[0]);
+        this.displayNames = display.values().toArray(new String[0]);
+        this.zones = zoneByKey.values().toArray(new ZoneId[0]);
+    }
+
+    /**
+     * Retorna as localidades que começam com o prefixo informado, em ordem alfabética.
+     * Prefixos mais curtos aparecem antes de suas extensões (ex: "rio" antes de "rio de janeiro").
+     *
+     * @param prefix Texto digitado pelo usuário (qualquer caixa, com ou sem acentos).
+     * @param limit Quantidade máxima de sugestões.
+     * @return Lista de sugestões (vazia se nada corresponder).
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String query = LocationMatcher.fold(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int index = Arrays.binarySearch(keys, query);
+        int start = index >= 0 ? index : -index - 1;
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, 16));
+        for (int i = start; i < keys.length && result.size() < limit && keys[i].startsWith(query); i++) {
+            result.add(new Suggestion(displayNames[i], zones[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna a quantidade de chaves indexadas.
+     *
+     * @return Número de chaves distintas após a normalização.
+     */
+    public int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,200 @@
+package com.horatime.api.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gazetteer binário mapeado em memória, gerado por {@link GazetteerCompiler}.
+ *
+ * Os nomes ficam fora do heap: o arquivo é mapeado com {@link FileChannel#map} e as buscas
+ * comparam bytes diretamente no buffer. Apenas a tabela de fusos horários (algumas centenas
+ * de entradas) é carregada como objetos, e cada nome referencia seu fuso por um índice.
+ * O custo de abertura e o uso de heap não dependem da quantidade de nomes.
+ */
+public final class MappedGazetteer {
+
+    private final ByteBuffer buffer;
+    private final ZoneId[] zones;
+    private final int entryCount;
+    private final int offsetsBase;
+
+    private MappedGazetteer(ByteBuffer buffer, ZoneId[] zones, int entryCount, int offsetsBase) {
+        this.buffer = buffer;
+        this.zones = zones;
+        this.entryCount = entryCount;
+        this.offsetsBase = offsetsBase;
+    }
+
+    /**
+     * Abre um gazetteer binário e o mapeia em memória (somente leitura).
+     *
+     * @param path Caminho do arquivo gerado por {@link GazetteerCompiler}.
+     * @return Gazetteer pronto para consultas.
+     * @throws IOException Se o arquivo não puder ser lido ou tiver formato inválido.
+     */
+    public static MappedGazetteer open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return wrap(buffer);
+    }
+
+    /**
+     * Cria um gazetteer a partir de bytes já carregados (útil em testes).
+     *
+     * @param buffer Conteúdo no formato binário.
+     * @return Gazetteer pronto para consultas.
+     * @throws IOException Se o formato for inválido.
+     */
+    public static MappedGazetteer wrap(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < GazetteerCompiler.HEADER_SIZE || buffer.getInt(0) != GazetteerCompiler.MAGIC) {
+            throw new IOException("Arquivo não é um gazetteer HoraTime");
+        }
+        if (buffer.getInt(4) != GazetteerCompiler.VERSION) {
+            throw new IOException("Versão de gazetteer não suportada: " + buffer.getInt(4));
+        }
+
+        int zoneCount = buffer.getInt(8);
+        int entryCount = buffer.getInt(12);
+        ZoneId[] zones = new ZoneId[zoneCount];
+        int position = GazetteerCompiler.HEADER_SIZE;
+        for (int i = 0; i < zoneCount; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            byte[] bytes = new byte[length];
+            buffer.get(position + 2, bytes);
+            try {
+                zones[i] = ZoneId.of(new String(bytes, StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new IOException("Fuso horário inválido no gazetteer: " + new String(bytes, StandardCharsets.UTF_8), e);
+            }
+            position += 2 + length;
+        }
+        return new MappedGazetteer(buffer, zones, entryCount, position);
+    }
+
+    /**
+     * Retorna o CRC32C do conteúdo do gazetteer (identifica a versão dos dados).
+     * O valor é gravado no cabeçalho por {@link GazetteerCompiler}; a leitura não percorre o arquivo.
+     *
+     * @return Checksum do arquivo.
+     */
+    public long checksum() {
+        return buffer.getLong(16);
+    }
+
+    /**
+     * Procura o fuso horário de um nome exato (ignorando maiúsculas e acentos).
+     *
+     * @param location Nome da cidade ou país.
+     * @return ZoneId correspondente, ou null se o nome não estiver no gazetteer.
+     */
+    public ZoneId find(String location) {
+        byte[] key = LocationMatcher.fold(location).getBytes(StandardCharsets.UTF_8);
+        if (key.length == 0) {
+            return null;
+        }
+        int index = lowerBound(key);
+        if (index < entryCount && compareKey(recordOffset(index), key, false) == 0) {
+            int record = recordOffset(index);
+            return zones[Short.toUnsignedInt(buffer.getShort(record + 2 + keyLength(record)))];
+        }
+        return null;
+    }
+
+    /**
+     * Retorna os nomes que começam com o prefixo informado, em ordem de chave normalizada.
+     *
+     * @param prefix Início do nome (qualquer caixa, com ou sem acentos).
+     * @param limit Quantidade máxima de sugestões.
+     * @return Lista de sugestões (vazia se nada corresponder).
+     */
+    public List<LocationSuggester.Suggestion> suggest(String prefix, int limit) {
+        byte[] key = LocationMatcher.fold(prefix).getBytes(StandardCharsets.UTF_8);
+        if (key.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        List<LocationSuggester.Suggestion> result = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < entryCount && result.size() < limit; i++) {
+            int record = recordOffset(i);
+            if (compareKey(record, key, true) != 0) {
+                break;
+            }
+            int zonePosition = record + 2 + keyLength(record);
+            int displayLength = Short.toUnsignedInt(buffer.getShort(zonePosition + 2));
+            byte[] display = new byte[displayLength];
+            buffer.get(zonePosition + 4, display);
+            result.add(new LocationSuggester.Suggestion(new String(display, StandardCharsets.UTF_8),
+                    zones[Short.toUnsignedInt(buffer.getShort(zonePosition))]));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna a quantidade de nomes no gazetteer.
+     *
+     * @return Número de nomes distintos após a normalização.
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Retorna a quantidade de fusos horários distintos referenciados.
+     *
+     * @return Tamanho da tabela de fusos horários.
+     */
+    public int zoneCount() {
+        return zones.length;
+    }
+
+    private int recordOffset(int index) {
+        return buffer.getInt(offsetsBase + 4 * index);
+    }
+
+    private int keyLength(int record) {
+        return Short.toUnsignedInt(buffer.getShort(record));
+    }
+
+    private int lowerBound(byte[] key) {
+        int lo = 0;
+        int hi = entryCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareKey(recordOffset(mid), key, false) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Compara a chave gravada em um registro com a chave pesquisada (bytes sem sinal).
+     *
+     * @param prefixOnly true para considerar iguais as chaves que começam com a pesquisada.
+     */
+    private int compareKey(int record, byte[] key, boolean prefixOnly) {
+        int length = keyLength(record);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(Byte.toUnsignedInt(buffer.get(record + 2 + i)), Byte.toUnsignedInt(key[i]));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        if (prefixOnly && length >= key.length) {
+            return 0;
+        }
+        return Integer.compare(length, key.length);
+    }
+}
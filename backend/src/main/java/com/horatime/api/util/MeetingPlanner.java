@@ -0,0 +1,109 @@
+package com.horatime.api.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Cálculo da grade de horários locais para planejamento de reuniões entre vários fusos.
+ *
+ * Para cada fuso, os intervalos de offset constante que cobrem o período pedido são obtidos
+ * uma única vez ({@link ZoneOffsetCache#segmentAt}) e guardados em arrays primitivos; a grade é
+ * então preenchida hora a hora avançando um ponteiro sobre esses intervalos, sem criar
+ * objetos de data por célula. O custo é linear em fusos × horas.
+ */
+public final class MeetingPlanner {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MINUTES_PER_DAY = 1_440;
+
+    /**
+     * Minuto do dia → HHmm.
+     */
+    private static final int[] HHMM = new int[MINUTES_PER_DAY];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            HHMM[minute] = (minute / 60) * 100 + minute % 60;
+        }
+    }
+
+    /**
+     * Resultado do planejamento.
+     *
+     * @param fromEpochSecond Início da primeira hora (UTC, segundos desde a época).
+     * @param hours Quantidade de horas da grade.
+     * @param localTimes Hora local de cada fuso no início de cada hora, no formato HHmm ([fuso][hora]).
+     * @param overlap true nas horas em que a hora inteira cai no expediente de todos os fusos.
+     */
+    public record Plan(long fromEpochSecond, int hours, int[][] localTimes, boolean[] overlap) {
+    }
+
+    private MeetingPlanner() {
+    }
+
+    /**
+     * Calcula a grade de horários locais e as horas de sobreposição de expediente.
+     *
+     * @param zones Fusos horários participantes.
+     * @param from Início do período (normalmente meia-noite UTC).
+     * @param hours Quantidade de horas a partir de {@code from}.
+     * @param workStartMinute Início do expediente, em minutos desde a meia-noite local.
+     * @param workEndMinute Fim do expediente, em minutos desde a meia-noite local
+     *                      (menor que o início para expedientes que atravessam a meia-noite).
+     * @return Grade e sobreposições.
+     */
+    public static Plan plan(ZoneId[] zones, Instant from, int hours, int workStartMinute, int workEndMinute) {
+        long start = from.getEpochSecond();
+        long end = start + hours * 3600L;
+        int windowLength = Math.floorMod(workEndMinute - workStartMinute, MINUTES_PER_DAY);
+        if (windowLength == 0) {
+            windowLength = MINUTES_PER_DAY;
+        }
+
+        int[][] localTimes = new int[zones.length][hours];
+        boolean[] overlap = new boolean[hours];
+        Arrays.fill(overlap, zones.length > 0);
+
+        long[] segmentEnd = new long[8];
+        int[] segmentOffset = new int[8];
+        for (int z = 0; z < zones.length; z++) {
+            // Intervalos de offset constante que cobrem [start, start + hours * 3600)
+            int segments = 0;
+            long t = start;
+            while (true) {
+                ZoneOffsetCache.Segment segment = ZoneOffsetCache.segmentAt(zones[z], t);
+                if (segments == segmentEnd.length) {
+                    segmentEnd = Arrays.copyOf(segmentEnd, segments * 2);
+                    segmentOffset = Arrays.copyOf(segmentOffset, segments * 2);
+                }
+                segmentEnd[segments] = segment.validUntil();
+                segmentOffset[segments] = segment.offset().getTotalSeconds();
+                segments++;
+                if (segment.validUntil() >= end) {
+                    break;
+                }
+                t = segment.validUntil();
+            }
+
+            // Dentro de um intervalo, a hora local avança exatamente 60 minutos por coluna
+            int[] row = localTimes[z];
+            int h = 0;
+            for (int s = 0; h < hours; s++) {
+                long segmentStop = Math.min(segmentEnd[s], end);
+                int stop = (int) Math.min(hours, Math.ceilDiv(segmentStop - start, 3600L));
+                int minute = (int) (Math.floorMod(start + h * 3600L + segmentOffset[s], SECONDS_PER_DAY) / 60);
+                int relative = Math.floorMod(minute - workStartMinute, MINUTES_PER_DAY);
+                for (; h < stop; h++) {
+                    row[h] = HHMM[minute];
+                    if (relative + 60 > windowLength) {
+                        overlap[h] = false;
+                    }
+                    minute = minute + 60 < MINUTES_PER_DAY ? minute + 60 : minute + 60 - MINUTES_PER_DAY;
+                    relative = relative + 60 < MINUTES_PER_DAY ? relative + 60 : relative + 60 - MINUTES_PER_DAY;
+                }
+            }
+        }
+        return new Plan(start, hours, localTimes, overlap);
+    }
+}
@@ -0,0 +1,148 @@
+package com.horatime.api.util;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Índice invertido offset UTC atual → fusos horários.
+ *
+ * Cada fuso fica no grupo do seu offset atual e guarda o instante da sua próxima transição
+ * ({@link ZoneOffsetCache#segmentAt}). Um heap ordenado por esse instante indica quando algum
+ * fuso precisa mudar de grupo: só então os fusos cuja transição passou são recalculados e movidos
+ * (copiando apenas os grupos afetados). Fora das transições, uma consulta é uma leitura volátil
+ * e um acesso ao mapa, independentemente da quantidade de fusos.
+ *
+ * O índice só avança no tempo: consultas com um instante anterior ao da última atualização
+ * veem os grupos atuais.
+ */
+public final class OffsetIndex {
+
+    private static final Comparator<ZoneId> BY_ID = Comparator.comparing(ZoneId::getId);
+
+    private final ZoneId[] zones;
+    private final ZoneOffsetCache.Segment[] segments;
+    private final PriorityQueue<Integer> due;
+
+    private volatile Map<ZoneOffset, List<ZoneId>> groups;
+    private volatile long nextTransition;
+    private volatile long generation;
+
+    /**
+     * Constrói o índice para os fusos informados no instante dado.
+     *
+     * @param zoneIds Fusos a indexar (duplicados são ignorados).
+     * @param epochSecond Instante inicial.
+     */
+    public OffsetIndex(Collection<ZoneId> zoneIds, long epochSecond) {
+        this.zones = new LinkedHashSet<>(zoneIds).toArray(ZoneId[]::new);
+        this.segments = new ZoneOffsetCache.Segment[zones.length];
+        this.due = new PriorityQueue<>(Math.max(zones.length, 1), Comparator.comparingLong(i -> segments[i].validUntil()));
+
+        Map<ZoneOffset, List<ZoneId>> initial = new HashMap<>();
+        for (int i = 0; i < zones.length; i++) {
+            segments[i] = ZoneOffsetCache.segmentAt(zones[i], epochSecond);
+            initial.computeIfAbsent(segments[i].offset(), offset -> new ArrayList<>()).add(zones[i]);
+            due.add(i);
+        }
+        initial.replaceAll((offset, list) -> {
+            list.sort(BY_ID);
+            return Collections.unmodifiableList(list);
+        });
+        this.groups = Collections.unmodifiableMap(initial);
+        this.nextTransition = due.isEmpty() ? Long.MAX_VALUE : segments[due.peek()].validUntil();
+    }
+
+    /**
+     * Retorna os fusos que estão no offset informado.
+     *
+     * @param offset Offset UTC.
+     * @param epochSecond Instante da consulta (normalmente agora).
+     * @return Fusos em ordem alfabética de identificador (lista vazia se nenhum).
+     */
+    public List<ZoneId> zonesAt(ZoneOffset offset, long epochSecond) {
+        advance(epochSecond);
+        return groups.getOrDefault(offset, List.of());
+    }
+
+    /**
+     * Retorna todos os grupos offset → fusos.
+     *
+     * @param epochSecond Instante da consulta (normalmente agora).
+     * @return Mapa imutável.
+     */
+    public Map<ZoneOffset, List<ZoneId>> groups(long epochSecond) {
+        advance(epochSecond);
+        return groups;
+    }
+
+    /**
+     * Instante (segundos desde a época) da próxima transição entre os fusos indexados.
+     *
+     * @return Instante, ou Long.MAX_VALUE se nenhum fuso tiver transições futuras.
+     */
+    public long getNextTransition() {
+        return nextTransition;
+    }
+
+    /**
+     * Contador de atualizações aplicadas (muda sempre que algum fuso troca de grupo).
+     *
+     * @return Geração atual.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    private void advance(long epochSecond) {
+        if (epochSecond < nextTransition) {
+            return;
+        }
+        synchronized (this) {
+            if (epochSecond < nextTransition) {
+                return;
+            }
+            Map<ZoneOffset, List<ZoneId>> updated = new HashMap<>(groups);
+            boolean changed = false;
+            while (!due.isEmpty() && segments[due.peek()].validUntil() <= epochSecond) {
+                int i = due.poll();
+                ZoneOffset previous = segments[i].offset();
+                segments[i] = ZoneOffsetCache.segmentAt(zones[i], epochSecond);
+                ZoneOffset current = segments[i].offset();
+                if (!previous.equals(current)) {
+                    move(updated, zones[i], previous, current);
+                    changed = true;
+                }
+                due.add(i);
+            }
+            if (changed) {
+                groups = Collections.unmodifiableMap(updated);
+                generation++;
+            }
+            nextTransition = due.isEmpty() ? Long.MAX_VALUE : segments[due.peek()].validUntil();
+        }
+    }
+
+    private static void move(Map<ZoneOffset, List<ZoneId>> groups, ZoneId zone, ZoneOffset from, ZoneOffset to) {
+        List<ZoneId> source = new ArrayList<>(groups.get(from));
+        source.remove(zone);
+        if (source.isEmpty()) {
+            groups.remove(from);
+        } else {
+            groups.put(from, Collections.unmodifiableList(source));
+        }
+
+        List<ZoneId> target = new ArrayList<>(groups.getOrDefault(to, List.of()));
+        int position = Collections.binarySearch(target, zone, BY_ID);
+        target.add(position < 0 ? -position - 1 : position, zone);
+        groups.put(to, Collections.unmodifiableList(target));
+    }
+}
@@ -0,0 +1,193 @@
+package com.horatime.api.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Conversor de timestamps entre fusos horários para processamento em massa.
+ *
+ * Uma instância atende um único lote (não é thread-safe) e guarda dois caches:
+ * a resolução de cada texto de localidade/fuso e o intervalo de offset constante
+ * ({@link ZoneOffsetCache.Segment}) mais recente de cada fuso. Linhas consecutivas no mesmo
+ * intervalo são convertidas com aritmética sobre segundos, sem consultar as regras do fuso.
+ */
+public final class TimestampConverter {
+
+    /**
+     * Resultado da conversão de uma linha.
+     *
+     * @param instant Instante absoluto do timestamp de entrada.
+     * @param target Hora local no fuso de destino.
+     * @param targetOffset Offset do destino nesse instante.
+     * @param targetZone Fuso de destino resolvido.
+     */
+    public record Conversion(Instant instant, LocalDateTime target, ZoneOffset targetOffset, ZoneId targetZone) {
+    }
+
+    /**
+     * Formato de saída das horas locais (o mesmo das respostas da API).
+     */
+    public static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * Distância mínima (em segundos) das bordas de um intervalo para que uma hora local
+     * seja convertida sem ambiguidade; as transições reais deslocam no máximo algumas horas.
+     */
+    private static final long TRANSITION_MARGIN = 86_400;
+
+    private final int maxCachedNames;
+
+    /**
+     * Resolução de cada texto; Optional.empty() guarda os textos que não puderam ser resolvidos.
+     */
+    private final Map<String, Optional<ZoneId>> zonesByName = new HashMap<>();
+    private final Map<ZoneId, ZoneOffsetCache.Segment> segments = new HashMap<>();
+
+    /**
+     * @param maxCachedNames Quantidade máxima de nomes resolvidos guardados (o cache é esvaziado ao atingir o limite).
+     */
+    public TimestampConverter(int maxCachedNames) {
+        this.maxCachedNames = maxCachedNames;
+    }
+
+    /**
+     * Converte um timestamp para a hora local de outro fuso.
+     *
+     * @param timestamp Hora local no fuso de origem (ISO, ex: 2026-01-15T10:00:00), instante com offset
+     *                  (ex: 2026-01-15T10:00:00Z) ou epoch em segundos/milissegundos.
+     * @param source Localidade ou ZoneId de origem (usado apenas para horas locais).
+     * @param target Localidade ou ZoneId de destino.
+     * @return Conversão.
+     * @throws IllegalArgumentException Se o timestamp ou alguma localidade for inválida.
+     */
+    public Conversion convert(String timestamp, String source, String target) {
+        ZoneId targetZone = resolve(target);
+        if (targetZone == null) {
+            throw new IllegalArgumentException("Localidade de destino não encontrada: " + target);
+        }
+
+        Instant instant = toInstant(timestamp == null ? "" : timestamp.trim(), source);
+        ZoneOffset offset = segment(targetZone, instant.getEpochSecond()).offset();
+        return new Conversion(instant, LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset),
+                offset, targetZone);
+    }
+
+    /**
+     * Resolve uma localidade (como em GET /api/timezone) ou um identificador de fuso (ex: "Europe/Paris", "+03:00").
+     *
+     * @param name Texto informado na linha.
+     * @return ZoneId, ou null se não puder ser resolvido.
+     */
+    public ZoneId resolve(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        Optional<ZoneId> cached = zonesByName.get(name);
+        if (cached == null) {
+            ZoneId zone = TimezoneUtil.getZoneIdForLocation(name);
+            if (zone == null) {
+                try {
+                    zone = ZoneId.of(name.trim());
+                } catch (Exception e) {
+                    zone = null;
+                }
+            }
+            if (zonesByName.size() >= maxCachedNames) {
+                zonesByName.clear();
+            }
+            cached = Optional.ofNullable(zone);
+            zonesByName.put(name, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    private Instant toInstant(String timestamp, String source) {
+        if (timestamp.isEmpty()) {
+            throw new IllegalArgumentException("Timestamp vazio");
+        }
+
+        // Epoch em segundos (até 11 dígitos) ou milissegundos
+        if (isDigits(timestamp)) {
+            long value = Long.parseLong(timestamp);
+            return timestamp.length() > 11 ? Instant.ofEpochMilli(value) : Instant.ofEpochSecond(value);
+        }
+
+        String iso = timestamp.length() > 10 && timestamp.charAt(10) == ' '
+                ? timestamp.substring(0, 10) + 'T' + timestamp.substring(11)
+                : timestamp;
+        try {
+            if (hasOffset(iso)) {
+                return OffsetDateTime.parse(iso).toInstant();
+            }
+            LocalDateTime local = LocalDateTime.parse(iso);
+            ZoneId sourceZone = resolve(source);
+            if (sourceZone == null) {
+                throw new IllegalArgumentException("Localidade de origem não encontrada: " + source);
+            }
+            return localToInstant(local, sourceZone);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Timestamp inválido: " + timestamp);
+        }
+    }
+
+    /**
+     * Converte uma hora local em instante usando o intervalo de offset em cache; perto de uma
+     * transição (lacuna ou sobreposição), aplica as regras do JDK (mesmo resultado de ZonedDateTime.of).
+     */
+    private Instant localToInstant(LocalDateTime local, ZoneId zone) {
+        long localEpoch = local.toEpochSecond(ZoneOffset.UTC);
+        ZoneOffsetCache.Segment cached = segments.get(zone);
+        if (cached != null) {
+            long guess = localEpoch - cached.offset().getTotalSeconds();
+            if (guess - TRANSITION_MARGIN >= cached.validFrom() && guess + TRANSITION_MARGIN < cached.validUntil()) {
+                return Instant.ofEpochSecond(guess, local.getNano());
+            }
+        }
+
+        // Em uma lacuna, a hora local é deslocada para frente (não basta subtrair o offset resultante)
+        long epochSecond = ZonedDateTime.ofLocal(local, zone, null).toEpochSecond();
+        segment(zone, epochSecond);
+        return Instant.ofEpochSecond(epochSecond, local.getNano());
+    }
+
+    private ZoneOffsetCache.Segment segment(ZoneId zone, long epochSecond) {
+        ZoneOffsetCache.Segment segment = segments.get(zone);
+        if (segment == null || !segment.contains(epochSecond)) {
+            segment = ZoneOffsetCache.segmentAt(zone, epochSecond);
+            segments.put(zone, segment);
+        }
+        return segment;
+    }
+
+    private static boolean isDigits(String text) {
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == text.length() || text.length() > 19) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasOffset(String iso) {
+        int time = iso.indexOf('T');
+        if (time < 0) {
+            return false;
+        }
+        char last = iso.charAt(iso.length() - 1);
+        return last == 'Z' || iso.indexOf('+', time) > 0 || iso.indexOf('-', time) > 0;
+    }
+}
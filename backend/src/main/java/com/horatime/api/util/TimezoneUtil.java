@@ -1,13 +1,17 @@
 package com.horatime.api.util;
 
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.TextStyle;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Classe utilitária para operações com fuso horário.
@@ -16,11 +20,38 @@ import java.util.Set;
 public class TimezoneUtil {
 
     /**
-     * Mapa de cidades/países para seus respectivos ZoneIds.
-     * Este mapa pode ser expandido conforme necessário.
+     * Mapa embutido de cidades/países para seus respectivos ZoneIds.
+     * Preenchido apenas no inicializador estático; serve de base para o primeiro snapshot
+     * e para as recargas ({@link #getBuiltInLocations()}).
      */
     private static final Map<String, String> LOCATION_TO_TIMEZONE = new HashMap<>();
 
+    /**
+     * Snapshot imutável em uso (mapa exato + índices parcial, aproximado e de prefixos).
+     * Substituído atomicamente por {@link #setSnapshot(LocationSnapshot)}.
+     */
+    private static volatile LocationSnapshot snapshot;
+
+    /**
+     * Gazetteer binário opcional (mapeado em memória) consultado após o mapa embutido.
+     */
+    private static volatile MappedGazetteer gazetteer;
+
+    /**
+     * Fronteiras de fusos horários para consultas por coordenada (carregadas por GeoConfig).
+     */
+    private static volatile GeoZoneIndex geoIndex;
+
+    /**
+     * Se as fronteiras cobrem todo o território (conjunto completo); só então um ponto fora delas é alto-mar.
+     */
+    private static volatile boolean geoIndexComplete;
+
+    /**
+     * Versão dos dados de localidades (snapshot + gazetteer), usada em ETags.
+     */
+    private static volatile String dataVersion;
+
     static {
         // Cidades brasileiras
         LOCATION_TO_TIMEZONE.put("são paulo", "America/Sao_Paulo");
@@ -91,6 +122,8 @@ public class TimezoneUtil {
         LOCATION_TO_TIMEZONE.put("south africa", "Africa/Johannesburg");
         LOCATION_TO_TIMEZONE.put("johannesburgo", "Africa/Johannesburg");
         LOCATION_TO_TIMEZONE.put("johannesburg", "Africa/Johannesburg");
+
+        setSnapshot(LocationSnapshot.of(LOCATION_TO_TIMEZONE));
     }
 
     /**
@@ -104,31 +137,201 @@ public class TimezoneUtil {
             return null;
         }
 
-        String normalizedLocation = location.trim().toLowerCase();
-        String timezoneId = LOCATION_TO_TIMEZONE.get(normalizedLocation);
-
-        if (timezoneId != null) {
-            try {
-                return ZoneId.of(timezoneId);
-            } catch (Exception e) {
-                return null;
-            }
+        String normalizedLocation = normalizeLocation(location);
+        ZoneId zoneId = findExactZoneId(normalizedLocation);
+        if (zoneId != null) {
+            return zoneId;
         }
 
-        // Tentar encontrar por correspondência parcial
-        for (Map.Entry<String, String> entry : LOCATION_TO_TIMEZONE.entrySet()) {
-            if (entry.getKey().contains(normalizedLocation) || normalizedLocation.contains(entry.getKey())) {
-                try {
-                    return ZoneId.of(entry.getValue());
-                } catch (Exception e) {
-                    // Continuar procurando
-                }
-            }
+        // Tentar encontrar por correspondência parcial (sem acentos, ordem determinística)
+        return findPartialZoneId(normalizedLocation);
+    }
+
+    /**
+     * Normaliza o texto pesquisado para as buscas (remove espaços nas extremidades e converte para minúsculas).
+     * Primeira etapa de {@link #getZoneIdForLocation(String)}.
+     *
+     * @param location Nome da cidade ou país.
+     * @return Texto normalizado.
+     */
+    public static String normalizeLocation(String location) {
+        return location.trim().toLowerCase();
+    }
+
+    /**
+     * Busca exata no mapa embutido e, se configurado, no gazetteer externo.
+     * Segunda etapa de {@link #getZoneIdForLocation(String)}.
+     *
+     * @param normalizedLocation Texto obtido com {@link #normalizeLocation(String)}.
+     * @return ZoneId correspondente, ou null se não houver correspondência exata.
+     */
+    public static ZoneId findExactZoneId(String normalizedLocation) {
+        ZoneId zoneId = snapshot.findExact(normalizedLocation);
+        if (zoneId != null) {
+            return zoneId;
         }
 
+        // Tentar o gazetteer externo, se configurado
+        MappedGazetteer currentGazetteer = gazetteer;
+        if (currentGazetteer != null) {
+            return currentGazetteer.find(normalizedLocation);
+        }
         return null;
     }
 
+    /**
+     * Busca por correspondência parcial no índice de localidades.
+     * Última etapa de {@link #getZoneIdForLocation(String)}.
+     *
+     * @param normalizedLocation Texto obtido com {@link #normalizeLocation(String)}.
+     * @return ZoneId da melhor correspondência parcial, ou null se não houver.
+     */
+    public static ZoneId findPartialZoneId(String normalizedLocation) {
+        LocationSnapshot current = snapshot;
+        // O filtro de Bloom descarta textos sem nenhuma correspondência possível antes dos autômatos
+        if (!current.getBloomFilter().mayMatchPartial(LocationMatcher.fold(normalizedLocation))) {
+            return null;
+        }
+        return current.getPartialMatcher().findPartial(normalizedLocation);
+    }
+
+    /**
+     * Procura a localidade mais próxima de um texto com erros de digitação.
+     * Deve ser usada apenas quando {@link #getZoneIdForLocation(String)} não encontra resultado.
+     *
+     * @param location Nome da cidade ou país, possivelmente com erros (ex: "Tokio").
+     * @return Melhor correspondência com a distância de edição, ou null se nada estiver próximo.
+     */
+    public static FuzzyLocationIndex.Match findClosestLocation(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        LocationSnapshot current = snapshot;
+        int maxDistance = FuzzyLocationIndex.defaultMaxDistance(location);
+        if (!current.getBloomFilter().mayMatchFuzzy(LocationMatcher.fold(location), maxDistance)) {
+            return null;
+        }
+        return current.getFuzzyIndex().findClosest(location, maxDistance);
+    }
+
+    /**
+     * Sugere localidades que começam com o texto digitado.
+     *
+     * @param prefix Início do nome da cidade ou país.
+     * @param limit Quantidade máxima de sugestões.
+     * @return Lista de sugestões em ordem alfabética.
+     */
+    public static List<LocationSuggester.Suggestion> suggestLocations(String prefix, int limit) {
+        List<LocationSuggester.Suggestion> builtIn = snapshot.getSuggester().suggest(prefix, limit);
+        MappedGazetteer currentGazetteer = gazetteer;
+        if (currentGazetteer == null) {
+            return builtIn;
+        }
+
+        // Combinar as duas fontes em ordem alfabética, sem repetir nomes
+        TreeMap<String, LocationSuggester.Suggestion> merged = new TreeMap<>();
+        for (LocationSuggester.Suggestion suggestion : builtIn) {
+            merged.put(LocationMatcher.fold(suggestion.location()), suggestion);
+        }
+        for (LocationSuggester.Suggestion suggestion : currentGazetteer.suggest(prefix, limit)) {
+            merged.putIfAbsent(LocationMatcher.fold(suggestion.location()), suggestion);
+        }
+        List<LocationSuggester.Suggestion> result = new ArrayList<>(merged.values());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Define o gazetteer binário consultado após o mapa embutido.
+     *
+     * @param mappedGazetteer Gazetteer aberto por {@link MappedGazetteer#open}, ou null para desativar.
+     */
+    public static synchronized void setGazetteer(MappedGazetteer mappedGazetteer) {
+        gazetteer = mappedGazetteer;
+        updateDataVersion();
+    }
+
+    /**
+     * Define o índice espacial usado por {@link #findZoneIdByCoordinates(double, double)}.
+     *
+     * @param index Índice lido por {@link GeoZoneIndex#read}, ou null para desativar.
+     * @param complete Se o índice cobre todo o território (ex: exportação do timezone-boundary-builder);
+     *                 false para o conjunto embutido, que só cobre os arredores das cidades embutidas.
+     */
+    public static void setGeoIndex(GeoZoneIndex index, boolean complete) {
+        geoIndexComplete = complete;
+        geoIndex = index;
+    }
+
+    /**
+     * Busca o fuso horário cuja fronteira contém a coordenada. Com um índice completo, um ponto
+     * fora de todas as fronteiras é alto-mar e recebe o fuso náutico da longitude; com o conjunto
+     * simplificado, não há como distinguir mar de terra não coberta e o resultado é null.
+     *
+     * @param latitude Latitude em graus (-90 a 90).
+     * @param longitude Longitude em graus (-180 a 180).
+     * @return ZoneId correspondente, ou null se não houver índice ou se o ponto estiver fora das fronteiras conhecidas.
+     */
+    public static ZoneId findZoneIdByCoordinates(double latitude, double longitude) {
+        GeoZoneIndex currentIndex = geoIndex;
+        if (currentIndex == null) {
+            return null;
+        }
+        ZoneId zoneId = currentIndex.find(latitude, longitude);
+        if (zoneId == null && geoIndexComplete) {
+            return GeoZoneIndex.nauticalZone(longitude);
+        }
+        return zoneId;
+    }
+
+    /**
+     * Publica um novo snapshot de localidades. Os leitores passam a usá-lo na próxima consulta,
+     * sem bloqueio; consultas em andamento terminam com o snapshot anterior.
+     *
+     * @param newSnapshot Snapshot já construído e validado.
+     */
+    public static synchronized void setSnapshot(LocationSnapshot newSnapshot) {
+        snapshot = newSnapshot;
+        updateDataVersion();
+    }
+
+    /**
+     * Retorna o snapshot de localidades em uso.
+     *
+     * @return Snapshot atual.
+     */
+    public static LocationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retorna o mapa embutido (base das recargas).
+     *
+     * @return Mapa imutável localidade → fuso horário.
+     */
+    public static Map<String, String> getBuiltInLocations() {
+        return Collections.unmodifiableMap(LOCATION_TO_TIMEZONE);
+    }
+
+    private static void updateDataVersion() {
+        long checksum = snapshot.getChecksum();
+        MappedGazetteer currentGazetteer = gazetteer;
+        if (currentGazetteer != null) {
+            checksum = checksum * 31 + currentGazetteer.checksum();
+        }
+        dataVersion = Long.toHexString(checksum);
+    }
+
+    /**
+     * Retorna a versão atual dos dados de localidades.
+     * Muda sempre que o conjunto de localidades muda; respostas que dependem apenas
+     * desses dados (sugestões, localidades não encontradas) podem ser validadas por ela.
+     *
+     * @return Identificador hexadecimal derivado do conteúdo dos dados.
+     */
+    public static String getDataVersion() {
+        return dataVersion;
+    }
+
     /**
      * Obtém a hora atual em um fuso horário específico.
      *
@@ -136,8 +339,52 @@ public class TimezoneUtil {
      * @return LocalDateTime com a hora atual no fuso horário especificado.
      */
     public static LocalDateTime getCurrentTimeInZone(ZoneId zoneId) {
-        ZonedDateTime zonedDateTime = ZonedDateTime.now(zoneId);
-        return zonedDateTime.toLocalDateTime();
+        return getTimeInZone(zoneId, Instant.now());
+    }
+
+    /**
+     * Obtém a hora em um fuso horário para um instante já lido do relógio.
+     * Permite que várias localidades sejam resolvidas contra o mesmo instante.
+     *
+     * @param zoneId O ZoneId desejado.
+     * @param instant Instante de referência.
+     * @return LocalDateTime correspondente ao instante no fuso horário especificado.
+     */
+    public static LocalDateTime getTimeInZone(ZoneId zoneId, Instant instant) {
+        return getTimeAtOffset(instant, getOffset(zoneId, instant));
+    }
+
+    /**
+     * Converte um instante para a hora local de um offset já conhecido (apenas uma soma).
+     *
+     * @param instant Instante de referência.
+     * @param offset Offset UTC obtido com {@link #getOffset(ZoneId, Instant)}.
+     * @return LocalDateTime correspondente ao instante no offset informado.
+     */
+    public static LocalDateTime getTimeAtOffset(Instant instant, ZoneOffset offset) {
+        return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+    }
+
+    /**
+     * Obtém o offset UTC de um fuso horário em um instante, usando o cache de transições.
+     *
+     * @param zoneId O ZoneId desejado.
+     * @param instant Instante de referência.
+     * @return ZoneOffset válido no instante.
+     */
+    public static ZoneOffset getOffset(ZoneId zoneId, Instant instant) {
+        return ZoneOffsetCache.getOffset(zoneId, instant);
+    }
+
+    /**
+     * Obtém o offset UTC de um fuso horário em um instante específico.
+     *
+     * @param zoneId O ZoneId desejado.
+     * @param instant Instante de referência.
+     * @return String com o offset UTC (ex: "-03:00").
+     */
+    public static String getUtcOffset(ZoneId zoneId, Instant instant) {
+        return getOffset(zoneId, instant).getId();
     }
 
     /**
@@ -147,18 +394,57 @@ public class TimezoneUtil {
      * @return String com o offset UTC (ex: "-03:00").
      */
     public static String getUtcOffset(ZoneId zoneId) {
-        ZonedDateTime zonedDateTime = ZonedDateTime.now(zoneId);
-        return zonedDateTime.getOffset().toString();
+        return getUtcOffset(zoneId, Instant.now());
+    }
+
+    /**
+     * Interpreta um offset UTC informado pelo usuário: "+01:00", "-03", "+0530", "Z", com ou sem
+     * prefixo UTC/GMT ("UTC+5:30", "GMT-3", "UTC"). Horas de um dígito seguidas de minutos são
+     * completadas ("+5:30" → "+05:30"). Um "+" não codificado na query string chega como espaço
+     * (" 01:00", "UTC 01:00") e é restaurado.
+     *
+     * @param text Offset informado.
+     * @return ZoneOffset, ou null se o texto não for um offset válido.
+     */
+    public static ZoneOffset parseUtcOffset(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String value = text.stripTrailing();
+        String unpadded = value.stripLeading();
+        if (unpadded.regionMatches(true, 0, "UTC", 0, 3) || unpadded.regionMatches(true, 0, "GMT", 0, 3)) {
+            value = unpadded.substring(3);
+            if (value.isEmpty()) {
+                return ZoneOffset.UTC;
+            }
+        }
+        // Espaço antes do número: era um "+" não codificado
+        if (Character.isWhitespace(value.charAt(0))) {
+            value = value.strip();
+            if (!value.isEmpty() && Character.isDigit(value.charAt(0))) {
+                value = "+" + value;
+            }
+        }
+        // Hora de um dígito com minutos: "+5:30" → "+05:30" (ZoneOffset.of exige dois dígitos)
+        if (value.length() > 2 && (value.charAt(0) == '+' || value.charAt(0) == '-')
+                && Character.isDigit(value.charAt(1)) && value.charAt(2) == ':') {
+            value = value.charAt(0) + "0" + value.substring(1);
+        }
+        try {
+            return ZoneOffset.of(value);
+        } catch (DateTimeException e) {
+            return null;
+        }
     }
 
     /**
-     * Obtém o nome do fuso horário em português.
+     * Obtém o nome do fuso horário em português (da tabela pré-calculada de {@link ZoneDisplayNames}).
      *
      * @param zoneId O ZoneId desejado.
      * @return String com o nome do fuso horário.
      */
     public static String getTimezoneName(ZoneId zoneId) {
-        return zoneId.getDisplayName(TextStyle.FULL, new Locale("pt", "BR"));
+        return ZoneDisplayNames.name(zoneId, 0, ZoneDisplayNames.Style.GENERIC);
     }
 
     /**
@@ -177,6 +463,6 @@ public class TimezoneUtil {
      * @return Set com todas as localidades mapeadas.
      */
     public static Set<String> getAvailableLocations() {
-        return LOCATION_TO_TIMEZONE.keySet();
+        return snapshot.getLocations();
     }
 }
@@ -0,0 +1,153 @@
+package com.horatime.api.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabela de transições de offset de cada fuso horário, compartilhada por todo o processo.
+ *
+ * Na primeira consulta a um fuso, todas as suas transições (históricas e as geradas pelas regras
+ * recorrentes até o fim de {@link #LAST_YEAR}) são extraídas de {@link ZoneRules} para arrays
+ * primitivos: instantes em segundos e offsets em segundos. Daí em diante, o offset num instante,
+ * o intervalo de offset constante e as transições de um período custam uma busca binária,
+ * sem percorrer as regras nem criar objetos intermediários. Depois do horizonte, as consultas
+ * de intervalo recorrem às próprias regras.
+ */
+public final class TransitionTable {
+
+    /**
+     * Último ano coberto pela tabela.
+     */
+    public static final int LAST_YEAR = 2100;
+
+    /**
+     * Primeiro instante fora da tabela (início de {@code LAST_YEAR + 1}, UTC).
+     */
+    public static final long HORIZON = LocalDateTime.of(LAST_YEAR + 1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private static final ConcurrentHashMap<ZoneId, TransitionTable> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Instantes das transições, em segundos desde a época, em ordem crescente.
+     */
+    private final long[] instants;
+
+    /**
+     * Offset em segundos antes de cada transição; o último elemento é o offset após a última transição.
+     */
+    private final int[] offsets;
+
+    private final ZoneRules rules;
+    private final boolean recurring;
+
+    private TransitionTable(ZoneRules rules) {
+        this.rules = rules;
+        this.recurring = !rules.getTransitionRules().isEmpty();
+
+        List<ZoneOffsetTransition> historic = rules.getTransitions();
+        long[] times = new long[historic.size() + (recurring ? 2 * (LAST_YEAR - 1900) : 0)];
+        int[] before = new int[times.length + 1];
+        int n = 0;
+        for (ZoneOffsetTransition transition : historic) {
+            times[n] = transition.toEpochSecond();
+            before[n++] = transition.getOffsetBefore().getTotalSeconds();
+        }
+        if (recurring) {
+            Instant cursor = historic.isEmpty()
+                    ? Instant.ofEpochSecond(LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC))
+                    : historic.get(historic.size() - 1).getInstant();
+            for (ZoneOffsetTransition next = rules.nextTransition(cursor);
+                 next != null && next.toEpochSecond() < HORIZON;
+                 next = rules.nextTransition(next.getInstant())) {
+                if (n == times.length) {
+                    times = Arrays.copyOf(times, n * 2);
+                    before = Arrays.copyOf(before, n * 2 + 1);
+                }
+                times[n] = next.toEpochSecond();
+                before[n++] = next.getOffsetBefore().getTotalSeconds();
+            }
+        }
+
+        this.instants = Arrays.copyOf(times, n);
+        this.offsets = Arrays.copyOf(before, n + 1);
+        offsets[n] = n == 0
+                ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : rules.getOffset(Instant.ofEpochSecond(instants[n - 1])).getTotalSeconds();
+    }
+
+    /**
+     * Obtém a tabela de um fuso horário, construindo-a na primeira chamada.
+     *
+     * @param zoneId Fuso horário.
+     * @return Tabela compartilhada do fuso.
+     */
+    public static TransitionTable of(ZoneId zoneId) {
+        TransitionTable table = TABLES.get(zoneId);
+        return table != null ? table : TABLES.computeIfAbsent(zoneId, zone -> new TransitionTable(zone.getRules()));
+    }
+
+    /**
+     * Quantidade de transições na tabela.
+     */
+    public int size() {
+        return instants.length;
+    }
+
+    /**
+     * Índice da primeira transição no instante informado ou depois dele.
+     *
+     * @param epochSecond Instante em segundos desde a época.
+     * @return Índice em [0, {@link #size()}]; {@code size()} se não houver transição posterior na tabela.
+     */
+    public int firstAtOrAfter(long epochSecond) {
+        int index = Arrays.binarySearch(instants, epochSecond);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Instante da transição, em segundos desde a época.
+     */
+    public long instant(int index) {
+        return instants[index];
+    }
+
+    /**
+     * Offset em segundos antes da transição.
+     */
+    public int offsetBefore(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Offset em segundos depois da transição.
+     */
+    public int offsetAfter(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Obtém o intervalo de offset constante que contém um instante.
+     *
+     * @param epochSecond Instante em segundos desde a época.
+     * @return Segmento equivalente a {@link ZoneOffsetCache#segmentAt(ZoneRules, long)}.
+     */
+    public ZoneOffsetCache.Segment segmentAt(long epochSecond) {
+        // Quantidade de transições até o instante (inclusive): a transição exata já vale
+        int index = firstAtOrAfter(epochSecond + 1);
+        if (index == instants.length && recurring) {
+            // Além do horizonte da tabela: próxima transição só pelas regras
+            return ZoneOffsetCache.segmentAt(rules, epochSecond);
+        }
+        return new ZoneOffsetCache.Segment(
+                index == 0 ? Long.MIN_VALUE : instants[index - 1],
+                index == instants.length ? Long.MAX_VALUE : instants[index],
+                ZoneOffset.ofTotalSeconds(offsets[index]));
+    }
+}
@@ -0,0 +1,155 @@
+package com.horatime.api.util;
+
+import java.time.ZoneId;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabela de nomes de exibição dos fusos horários, pré-calculada por fuso e idioma.
+ *
+ * {@link ZoneId#getDisplayName} e {@link TimeZone#getDisplayName} passam pelo provedor CLDR
+ * e estão entre as chamadas mais lentas do java.time. Aqui cada fuso é resolvido uma única vez
+ * (na inicialização, via {@link #warm}, ou na primeira consulta) para todos os idiomas
+ * configurados; depois disso, um nome custa uma consulta ao mapa e um acesso ao array.
+ */
+public final class ZoneDisplayNames {
+
+    /**
+     * Variantes de nome guardadas para cada idioma.
+     */
+    public enum Style {
+        /** Nome genérico, sem distinguir horário de verão (ex: "Horário de Brasília"). */
+        GENERIC,
+        /** Nome completo do horário padrão (ex: "Central European Standard Time"). */
+        STANDARD,
+        /** Nome completo do horário de verão (ex: "Central European Summer Time"). */
+        DAYLIGHT,
+        /** Abreviação do horário padrão (ex: "CET"). */
+        SHORT_STANDARD,
+        /** Abreviação do horário de verão (ex: "CEST"). */
+        SHORT_DAYLIGHT
+    }
+
+    private static final Style[] STYLES = Style.values();
+
+    /**
+     * Idioma dos nomes usados por {@link TimezoneUtil#getTimezoneName(ZoneId)}; sempre o primeiro da tabela.
+     */
+    public static final Locale DEFAULT_LOCALE = Locale.of("pt", "BR");
+
+    /**
+     * Idiomas configurados e nomes já calculados, trocados juntos por {@link #setLocales}.
+     */
+    private record Table(Locale[] locales, Map<String, Integer> indexByTag, ConcurrentHashMap<ZoneId, String[]> names) {
+    }
+
+    private static volatile Table table = newTable(List.of(DEFAULT_LOCALE, Locale.ENGLISH, Locale.of("es")));
+
+    private ZoneDisplayNames() {
+    }
+
+    /**
+     * Define os idiomas disponíveis. O português do Brasil é sempre incluído como primeiro idioma.
+     * Os nomes já calculados são descartados.
+     *
+     * @param locales Idiomas desejados.
+     */
+    public static void setLocales(List<Locale> locales) {
+        List<Locale> all = new ArrayList<>();
+        all.add(DEFAULT_LOCALE);
+        for (Locale locale : locales) {
+            if (!all.contains(locale)) {
+                all.add(locale);
+            }
+        }
+        table = newTable(all);
+    }
+
+    /**
+     * Retorna os idiomas disponíveis, na ordem dos índices.
+     *
+     * @return Lista de idiomas.
+     */
+    public static List<Locale> getLocales() {
+        return List.of(table.locales());
+    }
+
+    /**
+     * Resolve o parâmetro ?lang= para o índice do idioma na tabela.
+     * Aceita a tag completa ("pt-BR", "pt_BR") ou só o idioma ("pt"), sem diferenciar maiúsculas.
+     *
+     * @param lang Tag do idioma.
+     * @return Índice do idioma, ou -1 se não estiver configurado.
+     */
+    public static int localeIndex(String lang) {
+        if (lang == null || lang.isBlank()) {
+            return -1;
+        }
+        Integer index = table.indexByTag().get(lang.trim().replace('_', '-').toLowerCase(Locale.ROOT));
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Obtém um nome de exibição.
+     *
+     * @param zoneId Fuso horário.
+     * @param localeIndex Índice retornado por {@link #localeIndex(String)} (0 = português do Brasil).
+     * @param style Variante do nome.
+     * @return Nome de exibição.
+     */
+    public static String name(ZoneId zoneId, int localeIndex, Style style) {
+        return namesFor(table, zoneId)[localeIndex * STYLES.length + style.ordinal()];
+    }
+
+    /**
+     * Pré-calcula os nomes de um conjunto de fusos horários.
+     *
+     * @param zoneIds Fusos em uso.
+     */
+    public static void warm(Collection<ZoneId> zoneIds) {
+        Table current = table;
+        for (ZoneId zoneId : zoneIds) {
+            namesFor(current, zoneId);
+        }
+    }
+
+    private static String[] namesFor(Table current, ZoneId zoneId) {
+        String[] names = current.names().get(zoneId);
+        if (names == null) {
+            names = current.names().computeIfAbsent(zoneId, zone -> compute(zone, current.locales()));
+        }
+        return names;
+    }
+
+    private static String[] compute(ZoneId zoneId, Locale[] locales) {
+        TimeZone timeZone = TimeZone.getTimeZone(zoneId);
+        String[] names = new String[locales.length * STYLES.length];
+        for (int i = 0; i < locales.length; i++) {
+            Locale locale = locales[i];
+            int base = i * STYLES.length;
+            names[base + Style.GENERIC.ordinal()] = zoneId.getDisplayName(TextStyle.FULL, locale);
+            names[base + Style.STANDARD.ordinal()] = timeZone.getDisplayName(false, TimeZone.LONG, locale);
+            names[base + Style.DAYLIGHT.ordinal()] = timeZone.getDisplayName(true, TimeZone.LONG, locale);
+            names[base + Style.SHORT_STANDARD.ordinal()] = timeZone.getDisplayName(false, TimeZone.SHORT, locale);
+            names[base + Style.SHORT_DAYLIGHT.ordinal()] = timeZone.getDisplayName(true, TimeZone.SHORT, locale);
+        }
+        return names;
+    }
+
+    private static Table newTable(List<Locale> locales) {
+        Map<String, Integer> indexByTag = new HashMap<>();
+        for (int i = 0; i < locales.size(); i++) {
+            Locale locale = locales.get(i);
+            indexByTag.putIfAbsent(locale.toLanguageTag().toLowerCase(Locale.ROOT), i);
+            indexByTag.putIfAbsent(locale.getLanguage(), i);
+        }
+        return new Table(locales.toArray(Locale[]::new), Map.copyOf(indexByTag), new ConcurrentHashMap<>());
+    }
+}
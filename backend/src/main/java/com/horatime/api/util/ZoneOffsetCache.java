@@ -0,0 +1,95 @@
+package com.horatime.api.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache do offset UTC de cada fuso horário, válido até a próxima transição (ex: horário de verão).
+ *
+ * Cada entrada guarda o intervalo [início, fim) em que o offset não muda, calculado com
+ * {@link ZoneRules#previousTransition} e {@link ZoneRules#nextTransition}. Enquanto o instante
+ * consultado estiver no intervalo, a consulta é uma leitura sem bloqueio em um
+ * {@link ConcurrentHashMap}; ao passar da transição, a entrada é recalculada automaticamente.
+ */
+public final class ZoneOffsetCache {
+
+    /**
+     * Intervalo, em segundos desde a época, em que um fuso horário mantém o mesmo offset.
+     *
+     * @param validFrom Início do intervalo (inclusivo).
+     * @param validUntil Fim do intervalo (exclusivo).
+     * @param offset Offset UTC válido no intervalo.
+     */
+    public record Segment(long validFrom, long validUntil, ZoneOffset offset) {
+
+        /**
+         * Verifica se um instante pertence ao intervalo.
+         *
+         * @param epochSecond Instante em segundos desde a época.
+         * @return true se o offset do segmento vale para o instante.
+         */
+        public boolean contains(long epochSecond) {
+            return epochSecond >= validFrom && epochSecond < validUntil;
+        }
+    }
+
+    private static final ConcurrentHashMap<ZoneId, Segment> SEGMENTS = new ConcurrentHashMap<>();
+
+    private ZoneOffsetCache() {
+    }
+
+    /**
+     * Obtém o offset UTC de um fuso horário em um instante.
+     *
+     * @param zoneId O ZoneId desejado.
+     * @param instant Instante de referência.
+     * @return Offset UTC válido no instante.
+     */
+    public static ZoneOffset getOffset(ZoneId zoneId, Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        Segment segment = SEGMENTS.get(zoneId);
+        if (segment == null || !segment.contains(epochSecond)) {
+            segment = segmentAt(zoneId, epochSecond);
+            SEGMENTS.put(zoneId, segment);
+        }
+        return segment.offset();
+    }
+
+    /**
+     * Obtém o intervalo de offset constante que contém um instante a partir da tabela de transições
+     * compartilhada ({@link TransitionTable}): uma busca binária em vez de percorrer as regras.
+     *
+     * @param zoneId Fuso horário.
+     * @param epochSecond Instante em segundos desde a época.
+     * @return Segmento com o offset e seus limites.
+     */
+    public static Segment segmentAt(ZoneId zoneId, long epochSecond) {
+        return TransitionTable.of(zoneId).segmentAt(epochSecond);
+    }
+
+    /**
+     * Calcula o intervalo de offset constante que contém um instante.
+     *
+     * @param rules Regras do fuso horário.
+     * @param epochSecond Instante em segundos desde a época.
+     * @return Segmento com o offset e seus limites.
+     */
+    public static Segment segmentAt(ZoneRules rules, long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        if (rules.isFixedOffset()) {
+            return new Segment(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(instant));
+        }
+
+        // previousTransition é estrito; +1 inclui uma transição exatamente no instante
+        ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        return new Segment(
+                previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+                rules.getOffset(instant));
+    }
+}
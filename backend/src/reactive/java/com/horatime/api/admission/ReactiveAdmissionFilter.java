@@ -0,0 +1,87 @@
+package com.horatime.api.admission;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Controle de admissão do modo reativo, com as mesmas regras do {@link AdmissionFilter}:
+ * limite por cliente (429) e limite global de concorrência (503) nas rotas /api/, exceto o
+ * health check. A permissão de concorrência é devolvida quando a resposta termina, com sucesso,
+ * erro ou cancelamento.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAdmissionFilter implements WebFilter {
+
+    @Autowired
+    private ClientRateLimiter rateLimiter;
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${horatime.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${horatime.admission.api-key-header:X-API-Key}")
+    private String apiKeyHeader;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (!enabled || !path.startsWith("/api/") || path.equals("/api/timezone/health")) {
+            return chain.filter(exchange);
+        }
+
+        String client = rateLimiter.identify(request.getHeaders().getFirst(apiKeyHeader), remoteAddress(request),
+                AdmissionFilter.forwardedFor(request.getHeaders().get(AdmissionFilter.FORWARDED_FOR)));
+        long wait = rateLimiter.tryAcquire(client, System.nanoTime());
+        if (wait > 0) {
+            return reject(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS,
+                    AdmissionFilter.retryAfterSeconds(wait), AdmissionFilter.RATE_LIMITED);
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            return reject(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, 1, AdmissionFilter.OVERLOADED);
+        }
+        return chain.filter(exchange).doFinally(signal -> concurrencyLimiter.release());
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, long retryAfterSeconds, byte[] body) {
+        response.setStatusCode(status);
+        HttpHeaders headers = response.getHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        headers.setCacheControl("no-store");
+        // A recusa não passa pelo tratamento de CORS do WebFlux; sem este cabeçalho o navegador veria um erro de CORS
+        headers.setAccessControlAllowOrigin("*");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
@@ -0,0 +1,26 @@
+package com.horatime.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do modo reativo.
+ * Com Tomcat e Netty no classpath, o Spring Boot escolheria o Tomcat também para o WebFlux;
+ * aqui o Netty é definido explicitamente para que o modo reativo use um event loop de verdade.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    /**
+     * Servidor Netty para o modo reativo.
+     *
+     * @return Fábrica do servidor web reativo.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,280 @@
+package com.horatime.api.controller;
+
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.model.CacheStats;
+import com.horatime.api.model.LocationSuggestion;
+import com.horatime.api.model.MeetingPlanResponse;
+import com.horatime.api.model.ReloadResult;
+import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import com.horatime.api.service.BulkConversionService;
+import com.horatime.api.stream.ClockBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Variante reativa (WebFlux/Netty) do controller de fuso horário.
+ * Expõe o mesmo contrato de /api/timezone que o {@link TimezoneController}: a validação, as
+ * respostas e os cabeçalhos vêm do mesmo {@link TimezoneEndpoints}; aqui só muda o modelo de execução.
+ * Ativa apenas quando spring.main.web-application-type=reactive (perfil "reactive").
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/timezone")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTimezoneController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    /**
+     * A conversão em massa lê e escreve com I/O bloqueante: roda em threads virtuais, fora do event loop.
+     */
+    private static final Executor CONVERSION_THREADS = task -> Thread.ofVirtual().name("bulk-convert").start(task);
+
+    private final TimezoneEndpoints endpoints;
+    private final ClockBroadcaster clockBroadcaster;
+    private final BulkConversionService bulkConversionService;
+
+    /**
+     * @param endpoints Implementação comum aos modos servlet e reativo.
+     * @param clockBroadcaster Difusor do stream de relógio.
+     * @param bulkConversionService Conversão de timestamps em massa.
+     */
+    public ReactiveTimezoneController(TimezoneEndpoints endpoints, ClockBroadcaster clockBroadcaster,
+                                      BulkConversionService bulkConversionService) {
+        this.endpoints = endpoints;
+        this.clockBroadcaster = clockBroadcaster;
+        this.bulkConversionService = bulkConversionService;
+    }
+
+    /**
+     * Hora atual de uma localidade ou coordenada ({@link TimezoneController#getTimezone}).
+     * A consulta é feita em memória, sem I/O bloqueante, diretamente no event loop.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getTimezone(@RequestParam(name = "location", required = false) String location,
+                                                    @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                    @RequestParam(name = "lang", required = false) String lang,
+                                                    @RequestParam(name = "lat", required = false) String lat,
+                                                    @RequestParam(name = "lon", required = false) String lon,
+                                                    @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return Mono.fromSupplier(() -> endpoints.timezone(location, fuzzy, lang, lat, lon, accept));
+    }
+
+    /**
+     * Hora atual de várias localidades no mesmo instante ({@link TimezoneController#getTimezones}).
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<TimezoneResponse>>> getTimezones(@RequestBody(required = false) List<String> locations,
+                                                                     @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                                     @RequestParam(name = "lang", required = false) String lang) {
+        return Mono.fromSupplier(() -> endpoints.batch(locations, fuzzy, lang));
+    }
+
+    /**
+     * Autocompletar nomes de localidades ({@link TimezoneController#suggest}).
+     */
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<List<LocationSuggestion>>> suggest(@RequestParam(name = "q", required = false) String query,
+                                                                  @RequestParam(name = "limit", defaultValue = "10") int limit,
+                                                                  @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return Mono.fromSupplier(() -> endpoints.suggest(query, limit, accept));
+    }
+
+    /**
+     * Fusos horários em um offset UTC agora ({@link TimezoneController#zonesByOffset}).
+     */
+    @GetMapping("/zones")
+    public Mono<ResponseEntity<List<ZoneAliases>>> zonesByOffset(@RequestParam(name = "offset", required = false) String offset,
+                                                                 @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return Mono.fromSupplier(() -> endpoints.zones(offset, accept));
+    }
+
+    /**
+     * Localidades que levam a um fuso horário ({@link TimezoneController#aliases}).
+     */
+    @GetMapping("/aliases")
+    public Mono<ResponseEntity<ZoneAliases>> aliases(@RequestParam(name = "zone", required = false) String zone,
+                                                     @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return Mono.fromSupplier(() -> endpoints.aliases(zone, accept));
+    }
+
+    /**
+     * Conversão de timestamps em massa ({@link TimezoneController#convert}). O corpo é lido e a
+     * resposta escrita à medida que as linhas são convertidas, numa thread virtual.
+     */
+    @PostMapping(path = "/convert", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public Mono<Void> convert(ServerHttpRequest request, ServerHttpResponse response) {
+        MediaType contentType = request.getHeaders().getContentType();
+        boolean csv = contentType != null && contentType.isCompatibleWith(TEXT_CSV);
+        ResponseFormat format = csv ? ResponseFormat.JSON : ResponseFormat.fromAccept(request.getHeaders().getFirst(HttpHeaders.ACCEPT));
+        if (format == null) {
+            response.setStatusCode(HttpStatus.NOT_ACCEPTABLE);
+            return response.setComplete();
+        }
+        response.getHeaders().setCacheControl(HttpCaching.NO_STORE);
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        if (format != ResponseFormat.JSON) {
+            response.getHeaders().setContentType(format.getStreamMediaType());
+        } else {
+            response.getHeaders().setContentType(MediaType.parseMediaType(
+                    csv ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8"));
+        }
+
+        return response.writeWith(DataBufferUtils.outputStreamPublisher(out -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                    DataBufferUtils.subscriberInputStream(request.getBody(), 16), charset))) {
+                long rows = convert(in, out, csv, format);
+                log.debug("Conversão em massa ({}) concluída: {} linhas", format, rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, response.bufferFactory(), CONVERSION_THREADS));
+    }
+
+    private long convert(BufferedReader in, OutputStream out, boolean csv, ResponseFormat format) throws IOException {
+        if (format != ResponseFormat.JSON) {
+            return bulkConversionService.convertNdjson(in, out, format);
+        }
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        long rows = csv ? bulkConversionService.convertCsv(in, writer) : bulkConversionService.convertNdjson(in, writer);
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * Planejador de reuniões ({@link TimezoneController#planner}).
+     */
+    @GetMapping("/planner")
+    public Mono<ResponseEntity<MeetingPlanResponse>> planner(@RequestParam(name = "location", required = false) List<String> locations,
+                                                             @RequestParam(name = "from", required = false) LocalDate from,
+                                                             @RequestParam(name = "to", required = false) LocalDate to,
+                                                             @RequestParam(name = "workStart", defaultValue = "09:00") LocalTime workStart,
+                                                             @RequestParam(name = "workEnd", defaultValue = "18:00") LocalTime workEnd) {
+        return Mono.fromSupplier(() -> endpoints.planner(locations, from, to, workStart, workEnd));
+    }
+
+    /**
+     * Calendário de mudanças de offset ({@link TimezoneController#transitions}).
+     */
+    @GetMapping("/transitions")
+    public Mono<ResponseEntity<TransitionCalendar>> transitions(@RequestParam(name = "location", required = false) String location,
+                                                                @RequestParam(name = "from", required = false) LocalDate from,
+                                                                @RequestParam(name = "to", required = false) LocalDate to,
+                                                                @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return Mono.fromSupplier(() -> endpoints.transitions(location, from, to, accept));
+    }
+
+    /**
+     * Stream de relógio ({@link TimezoneController#stream}), servido pelo mesmo {@link ClockBroadcaster}.
+     * Os segundos passam por um sink sem fila: se o cliente ainda não consumiu o anterior, o segundo
+     * é descartado para ele, como no modo servlet.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> stream(@RequestParam(name = "location", required = false) List<String> locations) {
+        TimezoneEndpoints.StreamRequest request = endpoints.resolveStream(locations);
+        if (request.error() != null) {
+            return errorStream(request.errorStatus(), request.error());
+        }
+
+        Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().multicast().directBestEffort();
+        ClockBroadcaster.Subscription subscription = clockBroadcaster.register(request.zones(), (id, ticks) -> {
+            for (String tick : ticks) {
+                Sinks.EmitResult result = sink.tryEmitNext(ServerSentEvent.builder((Object) tick).id(id).event("tick").build());
+                if (result == Sinks.EmitResult.FAIL_TERMINATED || result == Sinks.EmitResult.FAIL_CANCELLED) {
+                    throw new IOException("Stream encerrado");
+                }
+            }
+        });
+        if (subscription == null) {
+            return errorStream(HttpStatus.SERVICE_UNAVAILABLE, TimezoneEndpoints.streamLimitReached());
+        }
+
+        ServerSentEvent<Object> welcome = ServerSentEvent.builder((Object) request.subscribed())
+                .event("subscribed")
+                .retry(Duration.ofSeconds(1))
+                .build();
+        Flux<ServerSentEvent<Object>> events = Flux.concat(Mono.just(welcome), sink.asFlux())
+                .doOnSubscribe(s -> subscription.start())
+                .take(Duration.ofMillis(clockBroadcaster.getTimeoutMillis()))
+                .doFinally(signal -> subscription.cancel());
+        return ResponseEntity.ok().cacheControl(HttpCaching.NO_STORE).body(events);
+    }
+
+    /**
+     * Stream encerrado imediatamente com um evento "error" contendo uma TimezoneResponse.
+     */
+    private static ResponseEntity<Flux<ServerSentEvent<Object>>> errorStream(HttpStatus status, TimezoneResponse error) {
+        return ResponseEntity.status(status)
+                .cacheControl(HttpCaching.NO_STORE)
+                .body(Flux.just(ServerSentEvent.builder((Object) error).event("error").build()));
+    }
+
+    /**
+     * Recarga administrativa das localidades ({@link TimezoneController#reloadLocations}).
+     * A resposta é emitida quando a recarga termina, sem ocupar o event loop.
+     */
+    @PostMapping("/admin/reload")
+    public Mono<ResponseEntity<ReloadResult>> reloadLocations(@RequestHeader(name = "X-Admin-Token", required = false) String token) {
+        return Mono.fromFuture(() -> endpoints.reload(token));
+    }
+
+    /**
+     * Estatísticas do cache de respostas ({@link TimezoneController#cacheStats}).
+     */
+    @GetMapping("/cache/stats")
+    public Mono<ResponseEntity<CacheStats>> cacheStats() {
+        return Mono.fromSupplier(endpoints::cacheStats);
+    }
+
+    /**
+     * Endpoint de health check para verificar se a API está funcionando.
+     *
+     * @return Mono com mensagem de status.
+     */
+    @GetMapping("/health")
+    public Mono<ResponseEntity<String>> health() {
+        return Mono.fromSupplier(endpoints::health);
+    }
+
+    /**
+     * Endpoint para obter informações sobre a API.
+     *
+     * @return Mono com informações da API.
+     */
+    @GetMapping("/info")
+    public Mono<ResponseEntity<String>> info() {
+        return Mono.fromSupplier(endpoints::info);
+    }
+}
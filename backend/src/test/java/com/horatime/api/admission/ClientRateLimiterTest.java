@@ -0,0 +1,132 @@
+package com.horatime.api.admission;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe ClientRateLimiter (10 requisições/s, rajada de 5).
+ * O relógio é passado explicitamente, sem depender do tempo real.
+ */
+@DisplayName("Testes da Classe ClientRateLimiter")
+class ClientRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ClientRateLimiter(new TimezoneMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(limiter, "rate", 10.0);
+        ReflectionTestUtils.setField(limiter, "burst", 5);
+        ReflectionTestUtils.setField(limiter, "maxClients", 3);
+        ReflectionTestUtils.setField(limiter, "apiKeys", new String[]{"chave-parceiro", " chave-interna "});
+        ReflectionTestUtils.setField(limiter, "trustedProxies", new String[]{"127.0.0.1", "10.0.0.9"});
+        limiter.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a rajada e recusar o excesso até a reposição")
+    void testBurstThenRefill() {
+        // Arrange
+        long now = 10 * SECOND;
+
+        // Act
+        int accepted = 0;
+        for (int i = 0; i < 8; i++) {
+            if (limiter.tryAcquire("10.0.0.1", now) == 0) {
+                accepted++;
+            }
+        }
+        long wait = limiter.tryAcquire("10.0.0.1", now);
+        long afterRefill = limiter.tryAcquire("10.0.0.1", now + SECOND / 10);
+
+        // Assert
+        assertEquals(5, accepted);
+        assertTrue(wait > 0 && wait <= SECOND / 10);
+        assertEquals(0, afterRefill);
+    }
+
+    @Test
+    @DisplayName("Deve manter buckets independentes por cliente")
+    void testClientsAreIndependent() {
+        // Arrange
+        long now = 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("abusivo", now);
+        }
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("abusivo", now) > 0);
+        assertEquals(0, limiter.tryAcquire("comportado", now));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de clientes rastreados")
+    void testBoundedClientTable() {
+        // Arrange
+        long now = 10 * SECOND;
+
+        // Act: clientes ativos ocupam a tabela; depois de um tempo, seus buckets se enchem e podem ser removidos
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("cliente-" + i, now);
+        }
+        int whileBusy = limiter.getClientCount();
+        limiter.tryAcquire("cliente-novo", now + 2 * SECOND);
+
+        // Assert
+        assertTrue(whileBusy <= 4);
+        assertTrue(limiter.getClientCount() <= 2);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar como identidade apenas chaves de API cadastradas")
+    void testIdentifyOnlyAllowedKeys() {
+        // Act & Assert
+        assertEquals("key:chave-parceiro", limiter.identify("chave-parceiro", "10.0.0.1", null));
+        assertEquals("key:chave-interna", limiter.identify("chave-interna", "10.0.0.1", null));
+        assertEquals("10.0.0.1", limiter.identify("chave-inventada", "10.0.0.1", null));
+        assertEquals("10.0.0.1", limiter.identify(null, "10.0.0.1", null));
+    }
+
+    @Test
+    @DisplayName("Deve usar X-Forwarded-For apenas quando enviado por proxy confiável")
+    void testIdentifyForwardedClient() {
+        // Act & Assert: o frontend na mesma máquina repassa o endereço do usuário
+        assertEquals("203.0.113.7", limiter.identify(null, "127.0.0.1", "203.0.113.7"));
+        assertEquals("203.0.113.7", limiter.identify(null, "127.0.0.1", "198.51.100.1, 203.0.113.7, 10.0.0.9"));
+        assertEquals("127.0.0.1", limiter.identify(null, "127.0.0.1", null));
+        // Cabeçalho de um cliente qualquer é ignorado
+        assertEquals("203.0.113.7", limiter.identify(null, "203.0.113.7", "198.51.100.1"));
+        // A chave de API continua valendo sobre o endereço
+        assertEquals("key:chave-parceiro", limiter.identify("chave-parceiro", "127.0.0.1", "203.0.113.7"));
+    }
+
+    @Test
+    @DisplayName("Deve manter limites separados para clientes novos com a tabela cheia")
+    void testOverflowIsNotShared() {
+        // Arrange: três clientes ativos ocupam a tabela
+        long now = 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ativo-" + i, now);
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.99", now);
+        }
+
+        // Act
+        long abusive = limiter.tryAcquire("10.0.0.99", now);
+        long legit = limiter.tryAcquire("10.0.0.1", now);
+
+        // Assert
+        assertEquals(3, limiter.getClientCount());
+        assertTrue(abusive > 0);
+        assertEquals(0, legit);
+    }
+}
@@ -0,0 +1,65 @@
+package com.horatime.api.cache;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.util.LocationSnapshot;
+import com.horatime.api.util.TimezoneUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe NegativeLookupCache.
+ * Os testes que trocam o snapshot restauram o embutido ao final.
+ */
+@DisplayName("Testes da Classe NegativeLookupCache")
+class NegativeLookupCacheTest {
+
+    @AfterEach
+    void restoreBuiltIns() {
+        TimezoneUtil.setSnapshot(LocationSnapshot.of(TimezoneUtil.getBuiltInLocations()));
+    }
+
+    @Test
+    @DisplayName("Falha sem busca aproximada não deve valer para a busca aproximada")
+    void testFuzzyMissCoversPlainLookup() {
+        // Arrange
+        NegativeLookupCache cache = new NegativeLookupCache(new TimezoneMetrics(new SimpleMeterRegistry()));
+        String version = TimezoneUtil.getDataVersion();
+
+        // Act
+        cache.recordMiss("qwzx", false, version);
+        cache.recordMiss("lkjh", true, version);
+
+        // Assert
+        assertTrue(cache.isKnownMiss("qwzx", false));
+        assertFalse(cache.isKnownMiss("qwzx", true));
+        assertTrue(cache.isKnownMiss("lkjh", false));
+        assertTrue(cache.isKnownMiss("lkjh", true));
+        assertFalse(cache.isKnownMiss("abcd", false));
+    }
+
+    @Test
+    @DisplayName("Deve descartar as falhas quando as localidades mudam")
+    void testInvalidatesOnDataChange() {
+        // Arrange
+        NegativeLookupCache cache = new NegativeLookupCache(new TimezoneMetrics(new SimpleMeterRegistry()));
+        String before = TimezoneUtil.getDataVersion();
+        cache.recordMiss("atlantida", true, before);
+        Map<String, String> locations = new HashMap<>(TimezoneUtil.getBuiltInLocations());
+        locations.put("atlantida", "Atlantic/Azores");
+
+        // Act
+        TimezoneUtil.setSnapshot(LocationSnapshot.of(locations));
+        cache.recordMiss("lemuria", false, before);
+
+        // Assert
+        assertFalse(cache.isKnownMiss("atlantida", false));
+        assertFalse(cache.isKnownMiss("lemuria", false));
+    }
+}
@@ -0,0 +1,190 @@
+package com.horatime.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.horatime.api.codec.ResponseFormat;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.service.TimezoneService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe TimezoneResponseCache.
+ */
+@DisplayName("Testes da Classe TimezoneResponseCache")
+class TimezoneResponseCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private TimezoneResponseCache cache;
+    private TimezoneService timezoneService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        TimezoneMetrics metrics = new TimezoneMetrics(registry);
+        cache = new TimezoneResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()), metrics);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+        timezoneService = new TimezoneService(metrics, new NegativeLookupCache(metrics));
+        loads = new AtomicInteger();
+    }
+
+    private TimezoneResponseCache.CachedResponse get(String location, Instant now) {
+        return cache.get(location, false, now, () -> {
+            loads.incrementAndGet();
+            return timezoneService.getCurrentTime(location, false, now);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a resposta serializada dentro do mesmo segundo")
+    void testHitWithinSameSecond() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T12:00:00.100Z");
+
+        // Act
+        TimezoneResponseCache.CachedResponse first = get("Paris", now);
+        TimezoneResponseCache.CachedResponse second = get("Paris", now.plusMillis(500));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("SUCCESS", first.status());
+        assertTrue(new String(first.body()).contains("\"2026-01-01T13:00:00\""));
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar respostas de falha interna")
+    void testErrorNotCached() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        TimezoneResponse error = TimezoneResponse.builder().location("Paris").status("ERROR").message("falha").build();
+
+        // Act
+        cache.get("Paris", false, now, () -> {
+            loads.incrementAndGet();
+            return error;
+        });
+        TimezoneResponseCache.CachedResponse second = get("Paris", now);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals("SUCCESS", second.status());
+    }
+
+    @Test
+    @DisplayName("Deve contar o caminho de resolução também nos acertos do cache")
+    void testMatchPathCountedOnHits() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+        // Act
+        get("Paris", now);
+        get("Paris", now);
+        get("LocalidadeInexistente", now);
+        get("LocalidadeInexistente", now);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(2.0, registry.counter("horatime.lookup.match", "path", "exact").count());
+        assertEquals(2.0, registry.counter("horatime.lookup.match", "path", "miss").count());
+        assertFalse(new String(get("Paris", now).body()).contains("matchPath"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar as entradas quando o segundo muda")
+    void testNewSecondEvictsEntries() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+        // Act
+        get("Paris", now);
+        TimezoneResponseCache.CachedResponse next = get("Paris", now.plusSeconds(1));
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertTrue(new String(next.body()).contains("\"2026-01-01T13:00:01\""));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de bytes por segundo")
+    void testByteBudget() {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "maxBytes", 10L);
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+        // Act
+        get("Paris", now);
+        get("Paris", now);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.stats().getRejected());
+        assertEquals(0, cache.stats().getEntries());
+    }
+
+    @Test
+    @DisplayName("Deve serializar respostas de erro")
+    void testEncodeError() {
+        // Arrange
+        TimezoneResponse response = timezoneService.getCurrentTime("LocalidadeInexistente123");
+
+        // Act
+        TimezoneResponseCache.CachedResponse encoded = cache.encode(response);
+
+        // Assert
+        assertEquals("NOT_FOUND", encoded.status());
+        assertTrue(new String(encoded.body()).contains("LocalidadeInexistente123"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETag estável para o mesmo corpo e diferente quando o segundo muda")
+    void testEtagFollowsBody() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T12:00:00.100Z");
+
+        // Act
+        TimezoneResponseCache.CachedResponse first = cache.encode(timezoneService.getCurrentTime("Paris", false, now));
+        TimezoneResponseCache.CachedResponse same = cache.encode(timezoneService.getCurrentTime("Paris", false, now.plusMillis(800)));
+        TimezoneResponseCache.CachedResponse next = cache.encode(timezoneService.getCurrentTime("Paris", false, now.plusSeconds(1)));
+
+        // Assert
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        assertEquals(first.etag(), same.etag());
+        assertNotEquals(first.etag(), next.etag());
+    }
+
+    @Test
+    @DisplayName("Deve guardar uma entrada por formato e decodificar CBOR com os mesmos campos")
+    void testBinaryFormat() throws Exception {
+        // Arrange
+        Instant now = Instant.parse("2026-01-15T12:00:00Z");
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+
+        // Act
+        TimezoneResponseCache.CachedResponse json = cache.get("Paris", false, -1, ResponseFormat.JSON, now,
+                () -> timezoneService.getCurrentTime("Paris", false, now));
+        TimezoneResponseCache.CachedResponse cbor = cache.get("Paris", false, -1, ResponseFormat.CBOR, now,
+                () -> timezoneService.getCurrentTime("Paris", false, now));
+        TimezoneResponse decoded = cborMapper.readValue(cbor.body(), TimezoneResponse.class);
+
+        // Assert
+        assertNotEquals(json.etag(), cbor.etag());
+        assertTrue(cbor.body().length < json.body().length);
+        assertEquals("Europe/Paris", decoded.getTimezone());
+        assertEquals("+01:00", decoded.getUtcOffset());
+    }
+}
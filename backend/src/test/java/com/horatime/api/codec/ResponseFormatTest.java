@@ -0,0 +1,33 @@
+package com.horatime.api.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a negociação de formato da classe ResponseFormat.
+ */
+@DisplayName("Testes da Classe ResponseFormat")
+class ResponseFormatTest {
+
+    @Test
+    @DisplayName("Deve responder em JSON sem Accept, com curingas ou com Accept inválido")
+    void testDefaultsToJson() {
+        // Act & Assert
+        assertEquals(ResponseFormat.JSON, ResponseFormat.fromAccept(null));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.fromAccept("*/*"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.fromAccept("text/html,application/xhtml+xml,*/*;q=0.8"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.fromAccept("não é um tipo"));
+    }
+
+    @Test
+    @DisplayName("Deve escolher o formato binário conforme a preferência do cliente")
+    void testBinaryFormats() {
+        // Act & Assert
+        assertEquals(ResponseFormat.CBOR, ResponseFormat.fromAccept("application/cbor"));
+        assertEquals(ResponseFormat.CBOR, ResponseFormat.fromAccept("application/cbor-seq"));
+        assertEquals(ResponseFormat.SMILE, ResponseFormat.fromAccept("application/json;q=0.5, application/x-jackson-smile"));
+        assertNull(ResponseFormat.fromAccept("text/xml"));
+    }
+}
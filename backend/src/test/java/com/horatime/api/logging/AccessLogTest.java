@@ -0,0 +1,78 @@
+package com.horatime.api.logging;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe AccessLog.
+ * A thread de escrita não é iniciada (enabled só é ligado após start()), e a fila é drenada manualmente.
+ */
+@DisplayName("Testes da Classe AccessLog")
+class AccessLogTest {
+
+    private AccessLog accessLog;
+
+    @BeforeEach
+    void setUp() {
+        accessLog = new AccessLog(new TimezoneMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(accessLog, "enabled", false);
+        ReflectionTestUtils.setField(accessLog, "queueCapacity", 2);
+        accessLog.start();
+        ReflectionTestUtils.setField(accessLog, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("Deve registrar erros mesmo com amostragem zero")
+    void testErrorsAlwaysLogged() {
+        // Arrange
+        ReflectionTestUtils.setField(accessLog, "sampleRate", 0.0);
+
+        // Act
+        boolean success = accessLog.record("GET", "/api/timezone?location=Paris", 200, 1000);
+        boolean notFound = accessLog.record("GET", "/api/timezone?location=xyz", 404, 1000);
+
+        // Assert
+        assertFalse(success);
+        assertTrue(notFound);
+        assertEquals(1, accessLog.getSampledOut());
+        assertEquals(1, accessLog.drain());
+        assertEquals(1, accessLog.getWritten());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar registros quando a fila está cheia")
+    void testDropWhenQueueFull() {
+        // Arrange
+        ReflectionTestUtils.setField(accessLog, "sampleRate", 1.0);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            accessLog.record("GET", "/api/timezone/health", 200, 1000);
+        }
+
+        // Assert
+        assertEquals(3, accessLog.getDropped());
+        assertEquals(2, accessLog.drain());
+        assertEquals(0, accessLog.getSampledOut());
+    }
+
+    @Test
+    @DisplayName("Deve formatar o registro como chave=valor")
+    void testFormat() {
+        // Arrange
+        AccessLog.Entry entry = new AccessLog.Entry(0L, "GET", "/api/timezone?location=Paris", 200, 1_500_000L);
+
+        // Act
+        String line = entry.format();
+
+        // Assert
+        assertTrue(line.startsWith("ts=1970-01-01T00:00:00Z method=GET uri=\"/api/timezone?location=Paris\" status=200"));
+        assertTrue(line.endsWith("durationMs=1.500"));
+    }
+}
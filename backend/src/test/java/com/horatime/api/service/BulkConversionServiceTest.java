@@ -0,0 +1,116 @@
+package com.horatime.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.horatime.api.metrics.TimezoneMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe BulkConversionService.
+ */
+@DisplayName("Testes da Classe BulkConversionService")
+class BulkConversionServiceTest {
+
+    private ObjectMapper objectMapper;
+    private BulkConversionService conversionService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        conversionService = new BulkConversionService(objectMapper, new TimezoneMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(conversionService, "maxCachedNames", 100);
+    }
+
+    private String csv(String input) throws IOException {
+        StringWriter out = new StringWriter();
+        conversionService.convertCsv(new BufferedReader(new StringReader(input)), out);
+        return out.toString();
+    }
+
+    private List<JsonNode> ndjson(String input) throws IOException {
+        StringWriter out = new StringWriter();
+        conversionService.convertNdjson(new BufferedReader(new StringReader(input)), out);
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : out.toString().split("\n")) {
+            records.add(objectMapper.readTree(line));
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Deve dividir campos CSV respeitando aspas, vírgulas e aspas escapadas")
+    void testSplitCsv() {
+        // Arrange
+        List<String> fields = new ArrayList<>();
+
+        // Act
+        BulkConversionService.splitCsv("\"2026-01-15, 10h\",\"Diz \"\"oi\"\"\",,Tóquio", fields);
+
+        // Assert
+        assertEquals(List.of("2026-01-15, 10h", "Diz \"oi\"", "", "Tóquio"), fields);
+    }
+
+    @Test
+    @DisplayName("Deve pular o cabeçalho CSV e citar na saída os campos com vírgula")
+    void testCsvHeaderAndQuoting() throws IOException {
+        // Arrange
+        String input = "timestamp,source,target\n"
+                + "2026-01-15 10:00:00,São Paulo,Tóquio\n"
+                + "\"ontem, à tarde\",Paris,Tóquio\n";
+
+        // Act
+        String output = csv(input);
+
+        // Assert
+        assertEquals("timestamp,source,target,converted,offset,timezone,error\n"
+                + "2026-01-15 10:00:00,São Paulo,Tóquio,2026-01-15T22:00:00,+09:00,Asia/Tokyo,\n"
+                + "\"ontem, à tarde\",Paris,Tóquio,,,,\"Timestamp inválido: ontem, à tarde\"\n", output);
+    }
+
+    @Test
+    @DisplayName("Deve converter a primeira linha CSV quando não há cabeçalho")
+    void testCsvWithoutHeader() throws IOException {
+        // Act
+        String output = csv("1768471200,,UTC\n");
+
+        // Assert
+        assertEquals("timestamp,source,target,converted,offset,timezone,error\n"
+                + "1768471200,,UTC,2026-01-15T10:00:00,Z,UTC,\n", output);
+    }
+
+    @Test
+    @DisplayName("Deve gerar linhas de erro NDJSON com o número da linha na entrada, contando linhas em branco")
+    void testNdjsonErrorRowsAndLineNumbers() throws IOException {
+        // Arrange
+        String input = "{\"timestamp\":\"2026-07-01T12:00:00\",\"source\":\"Londres\",\"target\":\"Sydney\"}\n"
+                + "\n"
+                + "não é json\n"
+                + "   \n"
+                + "{\"timestamp\":\"2026-07-01T12:00:00\",\"source\":\"Londres\",\"target\":\"Atlântida\"}\n";
+
+        // Act
+        List<JsonNode> records = ndjson(input);
+
+        // Assert
+        assertEquals(3, records.size());
+        assertEquals("2026-07-01T21:00:00", records.get(0).get("converted").asText());
+        assertFalse(records.get(0).has("line"));
+        assertEquals(3, records.get(1).get("line").asInt());
+        assertEquals("JSON inválido", records.get(1).get("error").asText());
+        assertEquals(5, records.get(2).get("line").asInt());
+        assertEquals("Localidade de destino não encontrada: Atlântida", records.get(2).get("error").asText());
+    }
+}
@@ -0,0 +1,81 @@
+package com.horatime.api.service;
+
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.ReloadResult;
+import com.horatime.api.util.LocationSnapshot;
+import com.horatime.api.util.TimezoneUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe LocationReloadService.
+ * Cada teste restaura o snapshot embutido ao final.
+ */
+@DisplayName("Testes da Classe LocationReloadService")
+class LocationReloadServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocationReloadService reloadService;
+    private Path csv;
+
+    @BeforeEach
+    void setUp() {
+        csv = tempDir.resolve("locations.csv");
+        reloadService = new LocationReloadService(new TimezoneMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(reloadService, "locationsPath", csv.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reloadService.stop();
+        TimezoneUtil.setSnapshot(LocationSnapshot.of(TimezoneUtil.getBuiltInLocations()));
+    }
+
+    @Test
+    @DisplayName("Deve publicar as novas localidades mantendo as embutidas")
+    void testReloadAddsLocations() throws IOException {
+        // Arrange
+        Files.writeString(csv, "# fuso,nome,apelido\nPacific/Chatham,Chatham Islands,Waitangi\n");
+        String previousVersion = TimezoneUtil.getDataVersion();
+
+        // Act
+        ReloadResult result = reloadService.reload().join();
+
+        // Assert
+        assertEquals("SUCCESS", result.getStatus());
+        assertEquals(ZoneId.of("Pacific/Chatham"), TimezoneUtil.getZoneIdForLocation("waitangi"));
+        assertEquals(ZoneId.of("Europe/Paris"), TimezoneUtil.getZoneIdForLocation("Paris"));
+        assertNotEquals(previousVersion, result.getDataVersion());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o arquivo inteiro se algum fuso for inválido")
+    void testInvalidZoneKeepsCurrentSnapshot() throws IOException {
+        // Arrange
+        Files.writeString(csv, "Pacific/Chatham,Chatham Islands\nMars/Olympus_Mons,Olympus\n");
+        LocationSnapshot current = TimezoneUtil.getSnapshot();
+
+        // Act
+        ReloadResult result = reloadService.reload().join();
+
+        // Assert
+        assertEquals("ERROR", result.getStatus());
+        assertTrue(result.getMessage().contains("Mars/Olympus_Mons"));
+        assertSame(current, TimezoneUtil.getSnapshot());
+        assertNull(TimezoneUtil.findExactZoneId("chatham islands"));
+    }
+}
@@ -1,10 +1,28 @@
 package com.horatime.api.service;
 
+import com.horatime.api.cache.NegativeLookupCache;
+import com.horatime.api.metrics.TimezoneMetrics;
+import com.horatime.api.model.OffsetTransition;
 import com.horatime.api.model.TimezoneResponse;
+import com.horatime.api.model.TransitionCalendar;
+import com.horatime.api.model.ZoneAliases;
+import com.horatime.api.util.GeoZoneIndex;
+import com.horatime.api.util.LocationSnapshot;
+import com.horatime.api.util.TimezoneUtil;
+import com.horatime.api.util.ZoneDisplayNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -15,9 +33,22 @@ class TimezoneServiceTest {
 
     private TimezoneService timezoneService;
 
+    @AfterEach
+    void restoreBuiltIns() throws IOException {
+        TimezoneUtil.setSnapshot(LocationSnapshot.of(TimezoneUtil.getBuiltInLocations()));
+        TimezoneUtil.setGeoIndex(bundledGeoIndex(), false);
+    }
+
+    private GeoZoneIndex bundledGeoIndex() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("geo/timezones.geojson")) {
+            return GeoZoneIndex.read(in, 0.5);
+        }
+    }
+
     @BeforeEach
     void setUp() {
-        timezoneService = new TimezoneService();
+        TimezoneMetrics metrics = new TimezoneMetrics(new SimpleMeterRegistry());
+        timezoneService = new TimezoneService(metrics, new NegativeLookupCache(metrics));
     }
 
     @Test
@@ -132,4 +163,149 @@ class TimezoneServiceTest {
         assertNotNull(response.getUtcOffset());
         assertTrue(response.getUtcOffset().matches("-\\d{2}:\\d{2}|\\+\\d{2}:\\d{2}"));
     }
+
+    @Test
+    @DisplayName("Deve resolver lote de localidades no mesmo instante")
+    void testGetCurrentTimesForBatch() {
+        // Arrange
+        List<String> locations = List.of("São Paulo", "Rio de Janeiro", "LocalidadeInexistente123");
+
+        // Act
+        List<TimezoneResponse> responses = timezoneService.getCurrentTimes(locations);
+
+        // Assert
+        assertEquals(3, responses.size());
+        assertEquals("SUCCESS", responses.get(0).getStatus());
+        assertEquals("SUCCESS", responses.get(1).getStatus());
+        assertEquals("NOT_FOUND", responses.get(2).getStatus());
+        assertEquals("Rio de Janeiro", responses.get(1).getLocation());
+        assertEquals(responses.get(0).getCurrentTime(), responses.get(1).getCurrentTime());
+    }
+
+    @Test
+    @DisplayName("Deve usar busca aproximada apenas quando solicitada")
+    void testGetCurrentTimeWithFuzzy() {
+        // Arrange
+        String location = "Tokio";
+
+        // Act
+        TimezoneResponse exact = timezoneService.getCurrentTime(location);
+        TimezoneResponse fuzzy = timezoneService.getCurrentTime(location, true);
+
+        // Assert
+        assertEquals("NOT_FOUND", exact.getStatus());
+        assertEquals("SUCCESS", fuzzy.getStatus());
+        assertEquals("Asia/Tokyo", fuzzy.getTimezone());
+        assertEquals("tokyo", fuzzy.getMatchedLocation());
+        assertEquals(1, fuzzy.getMatchDistance());
+    }
+
+    @Test
+    @DisplayName("Deve incluir o nome do fuso no idioma pedido conforme o horário de verão")
+    void testGetCurrentTimeWithLanguage() {
+        // Arrange
+        Instant summer = Instant.parse("2026-07-01T12:00:00Z");
+        Instant winter = Instant.parse("2026-01-15T12:00:00Z");
+        int english = ZoneDisplayNames.localeIndex("en");
+
+        // Act
+        TimezoneResponse inSummer = timezoneService.getCurrentTime("Paris", false, summer, english);
+        TimezoneResponse inWinter = timezoneService.getCurrentTime("Paris", false, winter, english);
+        TimezoneResponse withoutLang = timezoneService.getCurrentTime("Paris", false, summer);
+
+        // Assert
+        assertEquals("Central European Summer Time", inSummer.getTimezoneName());
+        assertEquals("Central European Standard Time", inWinter.getTimezoneName());
+        assertNotNull(inSummer.getTimezoneAbbreviation());
+        assertNull(withoutLang.getTimezoneName());
+    }
+
+    @Test
+    @DisplayName("Deve listar as transições do período com as horas locais do salto e da sobreposição")
+    void testGetTransitions() {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 12, 31);
+
+        // Act
+        TransitionCalendar calendar = timezoneService.getTransitions("Nova York", from, to);
+        TransitionCalendar unknown = timezoneService.getTransitions("LocalidadeInexistente", from, to);
+
+        // Assert
+        assertEquals("SUCCESS", calendar.getStatus());
+        assertEquals(2, calendar.getTransitions().size());
+        OffsetTransition spring = calendar.getTransitions().get(0);
+        assertEquals("GAP", spring.getType());
+        assertEquals(LocalDateTime.of(2026, 3, 8, 2, 0), spring.getLocalBefore());
+        assertEquals(LocalDateTime.of(2026, 3, 8, 3, 0), spring.getLocalAfter());
+        OffsetTransition autumn = calendar.getTransitions().get(1);
+        assertEquals("OVERLAP", autumn.getType());
+        assertEquals("-04:00", autumn.getOffsetBefore());
+        assertEquals(3600, autumn.getDurationSeconds());
+        assertEquals("NOT_FOUND", unknown.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar offset, versão e validade dos apelidos ao cruzar uma transição")
+    void testAliasesAcrossTransition() {
+        // Arrange: snapshot novo, avançado apenas por este teste (restaurado no @AfterEach)
+        TimezoneUtil.setSnapshot(LocationSnapshot.of(TimezoneUtil.getBuiltInLocations()));
+        Instant before = Instant.parse("2027-03-28T00:59:59Z");
+        Instant after = before.plusSeconds(1);
+
+        // Act: apenas /aliases é consultado; nada mais avança o índice
+        String winterVersion = timezoneService.getOffsetIndexVersion(before);
+        ZoneAliases winter = timezoneService.findAliases("Europe/Paris", before);
+        long winterUntil = timezoneService.getNextOffsetTransition(before);
+        String summerVersion = timezoneService.getOffsetIndexVersion(after);
+        ZoneAliases summer = timezoneService.findAliases("Europe/Paris", after);
+        long summerUntil = timezoneService.getNextOffsetTransition(after);
+
+        // Assert
+        assertEquals("+01:00", winter.getUtcOffset());
+        assertEquals("+02:00", summer.getUtcOffset());
+        assertNotEquals(winterVersion, summerVersion);
+        assertEquals(after.getEpochSecond(), winterUntil);
+        assertTrue(summerUntil > after.getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("Deve retornar NOT_FOUND fora dos contornos embutidos e o fuso náutico só com fronteiras completas")
+    void testCoordinatesOutsideBoundaries() throws IOException {
+        // Arrange
+        GeoZoneIndex bundled = bundledGeoIndex();
+        Instant now = Instant.parse("2026-07-01T12:00:00Z");
+
+        // Act
+        TimezoneUtil.setGeoIndex(bundled, false);
+        TimezoneResponse paris = timezoneService.getCurrentTimeAt(48.86, 2.35, now, -1);
+        TimezoneResponse madrid = timezoneService.getCurrentTimeAt(40.4168, -3.7038, now, -1);
+        TimezoneResponse atlantic = timezoneService.getCurrentTimeAt(0.0, -30.0, now, -1);
+        TimezoneUtil.setGeoIndex(bundled, true);
+        TimezoneResponse atlanticComplete = timezoneService.getCurrentTimeAt(0.0, -30.0, now, -1);
+
+        // Assert
+        assertEquals("SUCCESS", paris.getStatus());
+        assertEquals("Europe/Paris", paris.getTimezone());
+        assertEquals("NOT_FOUND", madrid.getStatus());
+        assertNull(madrid.getTimezone());
+        assertEquals("NOT_FOUND", atlantic.getStatus());
+        assertEquals("SUCCESS", atlanticComplete.getStatus());
+        assertEquals("Etc/GMT+2", atlanticComplete.getTimezone());
+        assertEquals("-02:00", atlanticComplete.getUtcOffset());
+    }
+
+    @Test
+    @DisplayName("Deve retornar ERROR, e não NOT_FOUND, quando o cálculo da hora falha")
+    void testInternalFailureIsError() {
+        // Arrange: índice de idioma inexistente faz a montagem da resposta falhar
+        Instant now = Instant.parse("2026-07-01T12:00:00Z");
+
+        // Act
+        TimezoneResponse response = timezoneService.getCurrentTime("Paris", false, now, 99);
+
+        // Assert
+        assertEquals("ERROR", response.getStatus());
+        assertTrue(response.getMessage().startsWith("Erro ao processar a requisição"));
+    }
 }
@@ -0,0 +1,100 @@
+package com.horatime.api.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.horatime.api.metrics.TimezoneMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe ClockBroadcaster.
+ * O agendador não é iniciado; apenas o registro de assinantes e a serialização dos eventos são verificados.
+ */
+@DisplayName("Testes da Classe ClockBroadcaster")
+class ClockBroadcasterTest {
+
+    private ClockBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ClockBroadcaster(new ObjectMapper().registerModule(new JavaTimeModule()),
+                new TimezoneMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 1);
+        ReflectionTestUtils.setField(broadcaster, "timeoutMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("Deve serializar o evento do segundo com hora e offset do fuso")
+    void testEncode() {
+        // Arrange
+        Instant now = Instant.parse("2026-07-01T12:00:00Z");
+
+        // Act
+        String json = broadcaster.encode(ZoneId.of("America/Sao_Paulo"), now);
+
+        // Assert
+        assertEquals("{\"timezone\":\"America/Sao_Paulo\",\"currentTime\":\"2026-07-01T09:00:00\",\"utcOffset\":\"-03:00\"}", json);
+    }
+
+    @Test
+    @DisplayName("Deve recusar assinantes além do limite configurado")
+    void testSubscriberLimit() {
+        // Arrange
+        Set<ZoneId> zones = Set.of(ZoneId.of("Europe/Paris"));
+
+        // Act
+        SseEmitter first = broadcaster.subscribe(zones, List.of());
+        SseEmitter second = broadcaster.subscribe(zones, List.of());
+
+        // Assert
+        assertNotNull(first);
+        assertNull(second);
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Deve entregar os segundos a uma conexão registrada apenas entre start e cancel")
+    void testRegisteredConnection() throws InterruptedException {
+        // Arrange
+        ExecutorService writers = Executors.newSingleThreadExecutor();
+        ReflectionTestUtils.setField(broadcaster, "writers", writers);
+        BlockingQueue<List<String>> received = new ArrayBlockingQueue<>(10);
+        ClockBroadcaster.Subscription subscription = broadcaster.register(Set.of(ZoneId.of("Asia/Tokyo")),
+                (id, ticks) -> received.add(ticks));
+
+        // Act
+        broadcaster.tick();
+        List<String> beforeStart = received.poll(100, TimeUnit.MILLISECONDS);
+        subscription.start();
+        broadcaster.tick();
+        List<String> afterStart = received.poll(1, TimeUnit.SECONDS);
+        subscription.cancel();
+        broadcaster.tick();
+        List<String> afterCancel = received.poll(100, TimeUnit.MILLISECONDS);
+        writers.shutdown();
+
+        // Assert
+        assertNull(beforeStart);
+        assertNotNull(afterStart);
+        assertEquals(1, afterStart.size());
+        assertTrue(afterStart.get(0).contains("\"timezone\":\"Asia/Tokyo\""));
+        assertNull(afterCancel);
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+}
@@ -0,0 +1,109 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe GeoZoneIndex.
+ */
+@DisplayName("Testes da Classe GeoZoneIndex")
+class GeoZoneIndexTest {
+
+    /**
+     * Dois quadrados vizinhos com fronteira diagonal e um buraco no primeiro.
+     */
+    private static final String BOUNDARIES = """
+            {"type":"FeatureCollection","features":[
+              {"type":"Feature","properties":{"tzid":"Europe/Paris"},"geometry":{"type":"Polygon","coordinates":[
+                [[0,0],[10,0],[12,10],[0,10],[0,0]],
+                [[2,2],[4,2],[4,4],[2,4],[2,2]]]}},
+              {"type":"Feature","properties":{"tzid":"Europe/Berlin"},"geometry":{"type":"MultiPolygon","coordinates":[
+                [[[10,0],[20,0],[20,10],[12,10],[10,0]]]]}},
+              {"type":"Feature","properties":{"tzid":"Mars/Olympus_Mons"},"geometry":{"type":"Polygon","coordinates":[
+                [[30,30],[31,30],[31,31],[30,31],[30,30]]]}}
+            ]}""";
+
+    private static GeoZoneIndex index() throws IOException {
+        return GeoZoneIndex.read(new ByteArrayInputStream(BOUNDARIES.getBytes(StandardCharsets.UTF_8)), 1.0);
+    }
+
+    @Test
+    @DisplayName("Deve resolver pela grade e testar o polígono apenas nas células de fronteira")
+    void testResolvesInteriorAndBorderCells() throws IOException {
+        // Arrange
+        GeoZoneIndex index = index();
+
+        // Act & Assert
+        assertEquals(ZoneId.of("Europe/Paris"), index.find(7.5, 6.5));
+        assertEquals(ZoneId.of("Europe/Berlin"), index.find(5.5, 15.5));
+        // Mesma célula (11°, 5°), lados opostos da fronteira diagonal x = 10 + y/5
+        assertEquals(ZoneId.of("Europe/Paris"), index.find(5.5, 11.0));
+        assertEquals(ZoneId.of("Europe/Berlin"), index.find(5.5, 11.3));
+        assertTrue(index.borderCellCount() > 0);
+        assertEquals(List.of("Mars/Olympus_Mons"), index.skippedZones());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar buracos e retornar null fora das fronteiras")
+    void testHolesAndOutside() throws IOException {
+        // Arrange
+        GeoZoneIndex index = index();
+
+        // Act & Assert
+        assertNull(index.find(3.0, 3.0));
+        assertNull(index.find(-45.0, -30.0));
+        assertEquals(ZoneId.of("Etc/GMT+2"), GeoZoneIndex.nauticalZone(-30.0));
+        assertEquals(ZoneId.of("Etc/GMT-12"), GeoZoneIndex.nauticalZone(179.9));
+        assertEquals(ZoneId.of("Etc/GMT"), GeoZoneIndex.nauticalZone(7.0));
+    }
+
+    @Test
+    @DisplayName("Deve resolver as cidades embutidas pelo conjunto de fronteiras distribuído")
+    void testBundledBoundaries() throws IOException {
+        // Arrange
+        GeoZoneIndex index;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("geo/timezones.geojson")) {
+            index = GeoZoneIndex.read(in, 0.5);
+        }
+
+        // Act & Assert
+        assertEquals(ZoneId.of("America/Sao_Paulo"), index.find(-23.55, -46.63));
+        assertEquals(ZoneId.of("America/Manaus"), index.find(-3.10, -60.02));
+        assertEquals(ZoneId.of("Europe/Paris"), index.find(48.86, 2.35));
+        assertEquals(ZoneId.of("Asia/Tokyo"), index.find(35.69, 139.69));
+        assertEquals(ZoneId.of("America/Chicago"), index.find(41.88, -87.63));
+        assertEquals(ZoneId.of("America/Denver"), index.find(39.74, -104.99));
+        assertEquals(ZoneId.of("Asia/Kolkata"), index.find(28.61, 77.21));
+        assertEquals(ZoneId.of("Africa/Johannesburg"), index.find(-26.20, 28.05));
+        assertEquals(ZoneId.of("America/Recife"), index.find(-8.05, -34.90));
+        assertTrue(index.skippedZones().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve atribuir o fuso vizinho a pontos fora das cidades embutidas")
+    void testBundledBoundariesDoNotGuess() throws IOException {
+        // Arrange
+        GeoZoneIndex index;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("geo/timezones.geojson")) {
+            index = GeoZoneIndex.read(in, 0.5);
+        }
+
+        // Act & Assert: Arizona não segue o horário de verão de Denver, e o Nepal é UTC+5:45
+        assertNull(index.find(33.45, -112.07));
+        assertNull(index.find(32.22, -110.97));
+        assertNull(index.find(27.70, 85.30));
+        // Fusos vizinhos às cidades embutidas
+        assertNull(index.find(40.42, -3.70));
+        assertNull(index.find(50.45, 30.52));
+        assertNull(index.find(1.46, 103.76));
+    }
+}
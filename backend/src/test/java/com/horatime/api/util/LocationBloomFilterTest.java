@@ -0,0 +1,51 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe LocationBloomFilter.
+ */
+@DisplayName("Testes da Classe LocationBloomFilter")
+class LocationBloomFilterTest {
+
+    private static final LocationBloomFilter FILTER =
+            new LocationBloomFilter(List.of("São Paulo", "Rio de Janeiro", "Tóquio", "Nova York", "UK"));
+
+    @Test
+    @DisplayName("Nunca deve rejeitar textos com correspondência parcial")
+    void testNeverRejectsPartialMatches() {
+        // Act & Assert
+        for (String text : List.of("sao paulo", "paulo", "rio de", "toquio", "eu moro em nova york", "uk office", "o")) {
+            assertTrue(FILTER.mayMatchPartial(text), text);
+        }
+        LocationBloomFilter builtIn = new LocationBloomFilter(TimezoneUtil.getBuiltInLocations().keySet());
+        for (String key : TimezoneUtil.getBuiltInLocations().keySet()) {
+            String folded = LocationMatcher.fold(key);
+            assertTrue(builtIn.mayMatchPartial(folded), key);
+            assertTrue(builtIn.mayMatchPartial("cidade de " + folded), key);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar textos sem nenhuma correspondência possível")
+    void testRejectsJunk() {
+        // Act & Assert
+        assertFalse(FILTER.mayMatchPartial("xqzwv"));
+        assertFalse(FILTER.mayMatchPartial("bbbbbbbbbbbb"));
+        assertFalse(FILTER.mayMatchPartial(""));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a busca aproximada apenas quando nenhuma chave pode estar no limite de distância")
+    void testFuzzyBound() {
+        // Act & Assert
+        assertTrue(FILTER.mayMatchFuzzy("rio de janiero", 3));
+        assertTrue(FILTER.mayMatchFuzzy("xqzwv", 2));
+        assertFalse(FILTER.mayMatchFuzzy("xqzwvkkjhgfdsm", 3));
+    }
+}
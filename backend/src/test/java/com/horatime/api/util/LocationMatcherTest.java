@@ -0,0 +1,90 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe LocationMatcher.
+ */
+@DisplayName("Testes da Classe LocationMatcher")
+class LocationMatcherTest {
+
+    private LocationMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> locations = new LinkedHashMap<>();
+        locations.put("são paulo", "America/Sao_Paulo");
+        locations.put("sao paulo", "America/Sao_Paulo");
+        locations.put("rio", "America/Sao_Paulo");
+        locations.put("rio de janeiro", "America/Sao_Paulo");
+        locations.put("paris", "Europe/Paris");
+        locations.put("tóquio", "Asia/Tokyo");
+        locations.put("inválida", "Invalid/Zone");
+        matcher = new LocationMatcher(locations);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar chave que contém a consulta")
+    void testKeyContainsQuery() {
+        // Arrange & Act
+        ZoneId zoneId = matcher.findPartial("PAUL");
+
+        // Assert
+        assertNotNull(zoneId);
+        assertEquals("America/Sao_Paulo", zoneId.getId());
+        assertEquals("sao paulo", matcher.findPartialKey("paul"));
+    }
+
+    @Test
+    @DisplayName("Deve preferir a menor chave que contém a consulta")
+    void testShortestKeyContainingQuery() {
+        // Arrange & Act & Assert
+        assertEquals("rio", matcher.findPartialKey("ri"));
+        assertEquals("rio de janeiro", matcher.findPartialKey("janeiro"));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a maior chave contida na consulta")
+    void testQueryContainsKey() {
+        // Arrange & Act & Assert
+        assertEquals("rio de janeiro", matcher.findPartialKey("cidade do rio de janeiro, brasil"));
+        assertEquals("paris", matcher.findPartialKey("paris, frança"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos na consulta e nas chaves")
+    void testAccentFolding() {
+        // Arrange & Act
+        ZoneId zoneId = matcher.findPartial("Toquio");
+
+        // Assert
+        assertNotNull(zoneId);
+        assertEquals("Asia/Tokyo", zoneId.getId());
+        assertEquals("Asia/Tokyo", matcher.findPartial("tóqu").getId());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar entradas com fuso horário inválido")
+    void testInvalidZoneIgnored() {
+        // Arrange & Act & Assert
+        assertNull(matcher.findPartial("inválida"));
+        assertEquals(5, matcher.size());
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando nada corresponde")
+    void testNoMatch() {
+        // Arrange & Act & Assert
+        assertNull(matcher.findPartial("xyz"));
+        assertNull(matcher.findPartial(""));
+        assertNull(matcher.findPartial(null));
+    }
+}
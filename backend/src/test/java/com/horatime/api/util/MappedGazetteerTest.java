@@ -0,0 +1,108 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as classes GazetteerCompiler e MappedGazetteer.
+ */
+@DisplayName("Testes do Gazetteer Binário")
+class MappedGazetteerTest {
+
+    @TempDir
+    static Path tempDir;
+
+    private static MappedGazetteer gazetteer;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        String csv = """
+                # fuso,nome,apelidos...
+                America/Sao_Paulo,Campinas,Ribeirão Preto
+                Europe/Lisbon,Lisboa,Lisbon,Porto
+                Europe/Madrid,Madrid,Porto
+                Invalid/Zone,Atlantida
+                """;
+        Map<String, String> locations = GazetteerCompiler.readCsv(new StringReader(csv));
+        Path file = tempDir.resolve("gazetteer.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            GazetteerCompiler.compile(locations, out);
+        }
+        gazetteer = MappedGazetteer.open(file);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar nomes e apelidos ignorando acentos")
+    void testFind() {
+        // Arrange & Act
+        ZoneId campinas = gazetteer.find("CAMPINAS");
+        ZoneId ribeirao = gazetteer.find("ribeirao preto");
+
+        // Assert
+        assertEquals("America/Sao_Paulo", campinas.getId());
+        assertEquals("America/Sao_Paulo", ribeirao.getId());
+        assertEquals("Europe/Lisbon", gazetteer.find("Lisbon").getId());
+    }
+
+    @Test
+    @DisplayName("Deve manter a primeira ocorrência e ignorar fusos inválidos")
+    void testDuplicatesAndInvalidZones() {
+        // Arrange & Act & Assert
+        assertEquals("Europe/Lisbon", gazetteer.find("porto").getId());
+        assertNull(gazetteer.find("atlantida"));
+        assertNull(gazetteer.find("campina"));
+        assertEquals(6, gazetteer.size());
+        assertEquals(3, gazetteer.zoneCount());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir nomes pelo prefixo")
+    void testSuggest() {
+        // Arrange & Act
+        List<LocationSuggester.Suggestion> suggestions = gazetteer.suggest("lis", 10);
+
+        // Assert
+        assertEquals(2, suggestions.size());
+        assertEquals("Lisboa", suggestions.get(0).location());
+        assertEquals("Lisbon", suggestions.get(1).location());
+        assertEquals("Ribeirão Preto", gazetteer.suggest("ribeir", 10).get(0).location());
+        assertTrue(gazetteer.suggest("xyz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ler do cabeçalho o checksum do conteúdo")
+    void testChecksumFromHeader() throws Exception {
+        // Arrange
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        GazetteerCompiler.compile(Map.of("Campinas", "America/Sao_Paulo"), first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        GazetteerCompiler.compile(Map.of("Campinas", "America/Manaus"), second);
+        byte[] bytes = first.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, GazetteerCompiler.HEADER_SIZE, bytes.length - GazetteerCompiler.HEADER_SIZE);
+
+        // Act
+        MappedGazetteer a = MappedGazetteer.wrap(ByteBuffer.wrap(bytes));
+        MappedGazetteer b = MappedGazetteer.wrap(ByteBuffer.wrap(second.toByteArray()));
+
+        // Assert
+        assertEquals(crc.getValue(), a.checksum());
+        assertNotEquals(a.checksum(), b.checksum());
+        assertEquals("America/Sao_Paulo", a.find("campinas").getId());
+    }
+}
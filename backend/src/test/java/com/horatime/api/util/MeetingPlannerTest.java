@@ -0,0 +1,73 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe MeetingPlanner.
+ */
+@DisplayName("Testes da Classe MeetingPlanner")
+class MeetingPlannerTest {
+
+    @Test
+    @DisplayName("Deve coincidir com ZonedDateTime em todas as células, inclusive nas transições de horário de verão")
+    void testMatchesZonedDateTime() {
+        // Arrange
+        ZoneId[] zones = {
+                ZoneId.of("Europe/London"), ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata"),
+                ZoneId.of("Australia/Lord_Howe"), ZoneId.of("America/Sao_Paulo"), ZoneId.of("UTC")
+        };
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        int hours = 60 * 24;
+
+        // Act
+        MeetingPlanner.Plan plan = MeetingPlanner.plan(zones, from, hours, 9 * 60, 18 * 60);
+
+        // Assert
+        for (int z = 0; z < zones.length; z++) {
+            for (int h = 0; h < hours; h++) {
+                ZonedDateTime local = from.plusSeconds(h * 3600L).atZone(zones[z]);
+                assertEquals(local.getHour() * 100 + local.getMinute(), plan.localTimes()[z][h],
+                        zones[z] + " na hora " + h);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve marcar como sobreposição apenas horas inteiras dentro do expediente de todos")
+    void testOverlap() {
+        // Arrange
+        ZoneId[] zones = {ZoneId.of("Europe/Paris"), ZoneId.of("America/Sao_Paulo")};
+        Instant from = Instant.parse("2026-01-15T00:00:00Z");
+
+        // Act
+        MeetingPlanner.Plan plan = MeetingPlanner.plan(zones, from, 24, 9 * 60, 18 * 60);
+
+        // Assert: Paris (UTC+1) 08-17h UTC, São Paulo (UTC-3) 12-21h UTC => 12h-17h UTC
+        for (int h = 0; h < 24; h++) {
+            assertEquals(h >= 12 && h < 17, plan.overlap()[h], "hora " + h);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar expediente que atravessa a meia-noite")
+    void testOvernightWindow() {
+        // Arrange
+        ZoneId[] zones = {ZoneId.of("UTC")};
+        Instant from = Instant.parse("2026-01-15T00:00:00Z");
+
+        // Act
+        MeetingPlanner.Plan plan = MeetingPlanner.plan(zones, from, 24, 22 * 60, 2 * 60);
+
+        // Assert
+        for (int h = 0; h < 24; h++) {
+            assertEquals(h >= 22 || h < 2, plan.overlap()[h], "hora " + h);
+        }
+    }
+}
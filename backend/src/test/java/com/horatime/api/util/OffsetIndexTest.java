@@ -0,0 +1,71 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe OffsetIndex.
+ */
+@DisplayName("Testes da Classe OffsetIndex")
+class OffsetIndexTest {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final ZoneId LAGOS = ZoneId.of("Africa/Lagos");
+
+    @Test
+    @DisplayName("Deve agrupar os fusos pelo offset atual")
+    void testGroupsByCurrentOffset() {
+        // Arrange
+        long winter = Instant.parse("2026-01-15T12:00:00Z").getEpochSecond();
+
+        // Act
+        OffsetIndex index = new OffsetIndex(List.of(PARIS, LAGOS, BERLIN), winter);
+
+        // Assert
+        assertEquals(List.of(LAGOS, BERLIN, PARIS), index.zonesAt(ZoneOffset.ofHours(1), winter));
+        assertTrue(index.zonesAt(ZoneOffset.ofHours(2), winter).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve mover apenas os fusos cuja transição de horário de verão passou")
+    void testMovesZonesAtTransition() {
+        // Arrange
+        long beforeDst = Instant.parse("2026-03-29T00:59:59Z").getEpochSecond();
+        long afterDst = Instant.parse("2026-03-29T01:00:00Z").getEpochSecond();
+        OffsetIndex index = new OffsetIndex(List.of(PARIS, LAGOS, BERLIN), beforeDst);
+
+        // Act
+        List<ZoneId> summer = index.zonesAt(ZoneOffset.ofHours(2), afterDst);
+        List<ZoneId> standard = index.zonesAt(ZoneOffset.ofHours(1), afterDst);
+
+        // Assert
+        assertEquals(List.of(BERLIN, PARIS), summer);
+        assertEquals(List.of(LAGOS), standard);
+        assertEquals(1, index.getGeneration());
+        assertEquals(Instant.parse("2026-10-25T01:00:00Z").getEpochSecond(), index.getNextTransition());
+    }
+
+    @Test
+    @DisplayName("Deve manter os grupos entre transições sem recalcular")
+    void testSameGroupsBetweenTransitions() {
+        // Arrange
+        long now = Instant.parse("2026-05-01T00:00:00Z").getEpochSecond();
+        OffsetIndex index = new OffsetIndex(List.of(PARIS, LAGOS), now);
+
+        // Act
+        var first = index.groups(now);
+        var later = index.groups(now + 86_400);
+
+        // Assert
+        assertSame(first, later);
+        assertEquals(0, index.getGeneration());
+    }
+}
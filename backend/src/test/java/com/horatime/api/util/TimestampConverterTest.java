@@ -0,0 +1,99 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe TimestampConverter.
+ */
+@DisplayName("Testes da Classe TimestampConverter")
+class TimestampConverterTest {
+
+    @Test
+    @DisplayName("Deve converter hora local entre localidades")
+    void testConvertLocalTime() {
+        // Arrange
+        TimestampConverter converter = new TimestampConverter(100);
+
+        // Act
+        TimestampConverter.Conversion conversion = converter.convert("2026-01-15 10:00:00", "São Paulo", "Tóquio");
+
+        // Assert
+        assertEquals(LocalDateTime.of(2026, 1, 15, 22, 0), conversion.target());
+        assertEquals("+09:00", conversion.targetOffset().getId());
+        assertEquals(ZoneId.of("Asia/Tokyo"), conversion.targetZone());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar instantes com offset, epoch e identificadores de fuso")
+    void testConvertInstantsAndZoneIds() {
+        // Arrange
+        TimestampConverter converter = new TimestampConverter(100);
+
+        // Act
+        LocalDateTime fromOffset = converter.convert("2026-01-15T10:00:00Z", null, "Europe/Paris").target();
+        LocalDateTime fromSeconds = converter.convert("1768471200", null, "UTC").target();
+        LocalDateTime fromMillis = converter.convert("1768471200000", null, "+05:30").target();
+
+        // Assert
+        assertEquals(LocalDateTime.of(2026, 1, 15, 11, 0), fromOffset);
+        assertEquals(LocalDateTime.of(2026, 1, 15, 10, 0), fromSeconds);
+        assertEquals(LocalDateTime.of(2026, 1, 15, 15, 30), fromMillis);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com ZonedDateTime hora a hora, inclusive nas transições de horário de verão")
+    void testMatchesZonedDateTimeAcrossTransitions() {
+        // Arrange
+        TimestampConverter converter = new TimestampConverter(100);
+        ZoneId source = ZoneId.of("America/New_York");
+        ZoneId target = ZoneId.of("Europe/London");
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 0, 30);
+
+        for (int h = 0; h < 24 * 60; h++) {
+            LocalDateTime local = start.plusHours(h);
+
+            // Act
+            LocalDateTime converted = converter.convert(local.toString(), "America/New_York", "Europe/London").target();
+
+            // Assert
+            LocalDateTime expected = ZonedDateTime.of(local, source).withZoneSameInstant(target).toLocalDateTime();
+            assertEquals(expected, converted, local.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve resolver o offset +18:00 e continuar rejeitando textos inválidos em cache")
+    void testExtremeOffsetAndCachedFailures() {
+        // Arrange
+        TimestampConverter converter = new TimestampConverter(100);
+
+        // Act
+        TimestampConverter.Conversion conversion = converter.convert("2026-01-15T00:00:00Z", null, "+18:00");
+
+        // Assert
+        assertEquals(LocalDateTime.of(2026, 1, 15, 18, 0), conversion.target());
+        assertEquals(ZoneOffset.ofHours(18), converter.resolve("+18:00"));
+        assertNull(converter.resolve("Atlântida"));
+        assertNull(converter.resolve("Atlântida"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar timestamps e localidades inválidos")
+    void testInvalidInput() {
+        // Arrange
+        TimestampConverter converter = new TimestampConverter(100);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("ontem", "Paris", "Tóquio"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("2026-01-15T10:00:00", "Atlântida", "Tóquio"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("2026-01-15T10:00:00", "Paris", null));
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,4 +130,92 @@ class TimezoneUtilTest {
         assertTrue(locations.contains("são paulo"));
         assertTrue(locations.contains("paris"));
     }
+
+    @Test
+    @DisplayName("Deve encontrar localidade aproximada para erros de digitação")
+    void testFindClosestLocation() {
+        // Arrange & Act
+        FuzzyLocationIndex.Match tokio = TimezoneUtil.findClosestLocation("Tokio");
+        FuzzyLocationIndex.Match pariz = TimezoneUtil.findClosestLocation("Pariz");
+        FuzzyLocationIndex.Match saoPalo = TimezoneUtil.findClosestLocation("Sao Palo");
+
+        // Assert
+        assertNotNull(tokio);
+        assertEquals("Asia/Tokyo", tokio.zoneId().getId());
+        assertEquals(1, tokio.distance());
+        assertEquals("Europe/Paris", pariz.zoneId().getId());
+        assertEquals("sao paulo", saoPalo.key());
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando nenhuma localidade está próxima")
+    void testFindClosestLocationWithoutMatch() {
+        // Arrange & Act & Assert
+        assertNull(TimezoneUtil.findClosestLocation("LocalidadeInexistente"));
+        assertNull(TimezoneUtil.findClosestLocation(""));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir localidades pelo prefixo")
+    void testSuggestLocations() {
+        // Arrange & Act
+        List<LocationSuggester.Suggestion> suggestions = TimezoneUtil.suggestLocations("Rio", 10);
+        List<LocationSuggester.Suggestion> accented = TimezoneUtil.suggestLocations("sao", 10);
+
+        // Assert
+        assertEquals(2, suggestions.size());
+        assertEquals("rio", suggestions.get(0).location());
+        assertEquals("rio de janeiro", suggestions.get(1).location());
+        assertEquals(1, accented.size());
+        assertEquals("são paulo", accented.get(0).location());
+        assertEquals("America/Sao_Paulo", accented.get(0).zoneId().getId());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de sugestões")
+    void testSuggestLocationsLimit() {
+        // Arrange & Act & Assert
+        assertEquals(1, TimezoneUtil.suggestLocations("r", 1).size());
+        assertTrue(TimezoneUtil.suggestLocations("xyz", 10).isEmpty());
+        assertTrue(TimezoneUtil.suggestLocations("", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar cada forma documentada de offset UTC")
+    void testParseUtcOffsetAcceptedForms() {
+        // Act & Assert
+        assertEquals(ZoneOffset.ofHours(1), TimezoneUtil.parseUtcOffset("+01:00"));
+        assertEquals(ZoneOffset.ofHours(-3), TimezoneUtil.parseUtcOffset("-03"));
+        assertEquals(ZoneOffset.ofHours(5), TimezoneUtil.parseUtcOffset("+5"));
+        assertEquals(ZoneOffset.ofHoursMinutes(5, 30), TimezoneUtil.parseUtcOffset("+0530"));
+        assertEquals(ZoneOffset.ofHoursMinutes(5, 30), TimezoneUtil.parseUtcOffset("UTC+5:30"));
+        assertEquals(ZoneOffset.ofHoursMinutes(5, 30), TimezoneUtil.parseUtcOffset("UTC+05:30"));
+        assertEquals(ZoneOffset.ofHoursMinutes(-9, -30), TimezoneUtil.parseUtcOffset("-9:30"));
+        assertEquals(ZoneOffset.ofHours(-3), TimezoneUtil.parseUtcOffset("GMT-3"));
+        assertEquals(ZoneOffset.ofHours(1), TimezoneUtil.parseUtcOffset("utc+1"));
+        assertEquals(ZoneOffset.UTC, TimezoneUtil.parseUtcOffset("UTC"));
+        assertEquals(ZoneOffset.UTC, TimezoneUtil.parseUtcOffset("Z"));
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o '+' não codificado que chega como espaço")
+    void testParseUtcOffsetUnencodedPlus() {
+        // Act & Assert
+        assertEquals(ZoneOffset.ofHours(1), TimezoneUtil.parseUtcOffset(" 01:00"));
+        assertEquals(ZoneOffset.ofHours(1), TimezoneUtil.parseUtcOffset("UTC 01:00"));
+        assertEquals(ZoneOffset.ofHoursMinutes(5, 30), TimezoneUtil.parseUtcOffset("GMT 5:30"));
+        assertEquals(ZoneOffset.ofHours(-3), TimezoneUtil.parseUtcOffset("UTC -3"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar offsets inválidos")
+    void testParseUtcOffsetInvalid() {
+        // Act & Assert
+        assertNull(TimezoneUtil.parseUtcOffset(null));
+        assertNull(TimezoneUtil.parseUtcOffset(""));
+        assertNull(TimezoneUtil.parseUtcOffset("abc"));
+        assertNull(TimezoneUtil.parseUtcOffset("+25"));
+        assertNull(TimezoneUtil.parseUtcOffset("UTC+"));
+        assertNull(TimezoneUtil.parseUtcOffset("+5:3"));
+    }
 }
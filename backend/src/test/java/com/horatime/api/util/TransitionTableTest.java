@@ -0,0 +1,70 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe TransitionTable.
+ */
+@DisplayName("Testes da Classe TransitionTable")
+class TransitionTableTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    @DisplayName("Deve produzir os mesmos intervalos que as regras do fuso")
+    void testMatchesZoneRules() {
+        // Arrange
+        String[] zones = {"America/New_York", "America/Sao_Paulo", "Europe/London", "Australia/Lord_Howe",
+                "Asia/Kolkata", "Pacific/Apia", "Africa/Casablanca", "UTC"};
+
+        // Act & Assert
+        for (String id : zones) {
+            ZoneId zone = ZoneId.of(id);
+            TransitionTable table = TransitionTable.of(zone);
+            for (long t = -2_500_000_000L; t < 4_200_000_000L; t += 7_777_777L) {
+                assertEquals(ZoneOffsetCache.segmentAt(zone.getRules(), t), table.segmentAt(t), id + " @ " + t);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve listar o salto e a sobreposição do horário de verão com offsets e instantes")
+    void testDaylightSavingTransitions() {
+        // Arrange
+        TransitionTable table = TransitionTable.of(NEW_YORK);
+        long start = Instant.parse("2026-01-01T00:00:00Z").getEpochSecond();
+
+        // Act
+        int spring = table.firstAtOrAfter(start);
+        int autumn = spring + 1;
+
+        // Assert
+        assertEquals(Instant.parse("2026-03-08T07:00:00Z").getEpochSecond(), table.instant(spring));
+        assertEquals(-5 * 3600, table.offsetBefore(spring));
+        assertEquals(-4 * 3600, table.offsetAfter(spring));
+        assertEquals(Instant.parse("2026-11-01T06:00:00Z").getEpochSecond(), table.instant(autumn));
+        assertEquals(-5 * 3600, table.offsetAfter(autumn));
+        assertSame(table, TransitionTable.of(NEW_YORK));
+    }
+
+    @Test
+    @DisplayName("Deve recorrer às regras depois do horizonte da tabela")
+    void testBeyondHorizon() {
+        // Arrange
+        long beyond = TransitionTable.HORIZON + 30L * 86_400;
+
+        // Act
+        ZoneOffsetCache.Segment segment = TransitionTable.of(NEW_YORK).segmentAt(beyond);
+
+        // Assert
+        assertEquals(ZoneOffsetCache.segmentAt(NEW_YORK.getRules(), beyond), segment);
+        assertEquals(ZoneOffset.ofHours(-5), segment.offset());
+    }
+}
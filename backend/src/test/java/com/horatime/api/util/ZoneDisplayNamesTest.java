@@ -0,0 +1,61 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe ZoneDisplayNames (idiomas padrão: pt-BR, en, es).
+ */
+@DisplayName("Testes da Classe ZoneDisplayNames")
+class ZoneDisplayNamesTest {
+
+    @Test
+    @DisplayName("Deve resolver o idioma pela tag completa ou só pelo idioma")
+    void testLocaleIndex() {
+        // Act & Assert
+        assertEquals(0, ZoneDisplayNames.localeIndex("pt-BR"));
+        assertEquals(0, ZoneDisplayNames.localeIndex("pt_br"));
+        assertEquals(0, ZoneDisplayNames.localeIndex("pt"));
+        assertEquals(1, ZoneDisplayNames.localeIndex("EN"));
+        assertEquals(-1, ZoneDisplayNames.localeIndex("xx"));
+        assertEquals(-1, ZoneDisplayNames.localeIndex(null));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os mesmos nomes do provedor de localização")
+    void testNamesMatchProvider() {
+        // Arrange
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        TimeZone timeZone = TimeZone.getTimeZone(paris);
+        int english = ZoneDisplayNames.localeIndex("en");
+
+        // Act & Assert
+        assertEquals(timeZone.getDisplayName(false, TimeZone.LONG, Locale.ENGLISH),
+                ZoneDisplayNames.name(paris, english, ZoneDisplayNames.Style.STANDARD));
+        assertEquals(timeZone.getDisplayName(true, TimeZone.SHORT, Locale.ENGLISH),
+                ZoneDisplayNames.name(paris, english, ZoneDisplayNames.Style.SHORT_DAYLIGHT));
+        assertEquals(paris.getDisplayName(TextStyle.FULL, ZoneDisplayNames.DEFAULT_LOCALE),
+                TimezoneUtil.getTimezoneName(paris));
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o mesmo nome calculado nas consultas seguintes")
+    void testNamesAreCached() {
+        // Arrange
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+
+        // Act
+        String first = ZoneDisplayNames.name(tokyo, 2, ZoneDisplayNames.Style.GENERIC);
+        String second = ZoneDisplayNames.name(tokyo, 2, ZoneDisplayNames.Style.GENERIC);
+
+        // Assert
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,78 @@
+package com.horatime.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe ZoneOffsetCache.
+ */
+@DisplayName("Testes da Classe ZoneOffsetCache")
+class ZoneOffsetCacheTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    /**
+     * Início do horário de verão em Nova York em 2026 (08/03, 02:00 locais).
+     */
+    private static final Instant DST_START = Instant.parse("2026-03-08T07:00:00Z");
+
+    @Test
+    @DisplayName("Deve atualizar o offset ao passar por uma transição")
+    void testOffsetAcrossTransition() {
+        // Arrange & Act
+        ZoneOffset before = ZoneOffsetCache.getOffset(NEW_YORK, DST_START.minusSeconds(1));
+        ZoneOffset at = ZoneOffsetCache.getOffset(NEW_YORK, DST_START);
+        ZoneOffset beforeAgain = ZoneOffsetCache.getOffset(NEW_YORK, DST_START.minusSeconds(1));
+
+        // Assert
+        assertEquals(ZoneOffset.ofHours(-5), before);
+        assertEquals(ZoneOffset.ofHours(-4), at);
+        assertEquals(ZoneOffset.ofHours(-5), beforeAgain);
+    }
+
+    @Test
+    @DisplayName("Deve delimitar o segmento pelas transições vizinhas")
+    void testSegmentBounds() {
+        // Arrange & Act
+        ZoneOffsetCache.Segment segment = ZoneOffsetCache.segmentAt(NEW_YORK.getRules(), DST_START.getEpochSecond());
+
+        // Assert
+        assertEquals(DST_START.getEpochSecond(), segment.validFrom());
+        assertEquals(Instant.parse("2026-11-01T06:00:00Z").getEpochSecond(), segment.validUntil());
+        assertTrue(segment.contains(DST_START.getEpochSecond()));
+        assertFalse(segment.contains(segment.validUntil()));
+    }
+
+    @Test
+    @DisplayName("Deve usar segmento ilimitado para fusos de offset fixo")
+    void testFixedOffsetZone() {
+        // Arrange & Act
+        ZoneOffsetCache.Segment segment = ZoneOffsetCache.segmentAt(ZoneId.of("Asia/Dubai").getRules(), 0);
+
+        // Assert
+        assertEquals(ZoneOffset.ofHours(4), segment.offset());
+        assertTrue(segment.contains(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com ZoneRules em vários instantes")
+    void testMatchesZoneRules() {
+        // Arrange
+        ZoneId[] zones = {NEW_YORK, ZoneId.of("Europe/Paris"), ZoneId.of("America/Sao_Paulo"), ZoneId.of("Australia/Sydney")};
+        long start = Instant.parse("2010-01-01T00:00:00Z").getEpochSecond();
+
+        // Act & Assert
+        for (long t = start; t < start + 20L * 365 * 86400; t += 86400 * 7 + 3601) {
+            Instant instant = Instant.ofEpochSecond(t);
+            for (ZoneId zone : zones) {
+                assertEquals(zone.getRules().getOffset(instant), ZoneOffsetCache.getOffset(zone, instant));
+            }
+        }
+    }
+}
@@ -32,6 +32,65 @@ if ($_SERVER['REQUEST_METHOD'] !== 'GET') {
     exit;
 }
 
+// Consulta em lote: locations=Paris,Tóquio,São Paulo
+if (isset($_GET['locations'])) {
+    $locations = array_filter(array_map('sanitizeInput', explode(',', $_GET['locations'])), 'strlen');
+
+    if (empty($locations) || count($locations) > API_BATCH_MAX_SIZE) {
+        http_response_code(400);
+        echo json_encode([
+            'status' => 'ERROR',
+            'message' => 'O lote deve conter de 1 a ' . API_BATCH_MAX_SIZE . ' localidades'
+        ]);
+        logMessage("Lote com " . count($locations) . " localidades rejeitado", 'WARNING');
+        exit;
+    }
+
+    foreach ($locations as $item) {
+        if (!isValidLocation($item)) {
+            http_response_code(400);
+            echo json_encode([
+                'status' => 'ERROR',
+                'message' => 'Localidade inválida no lote: ' . $item
+            ]);
+            logMessage("Localidade inválida fornecida no lote: {$item}", 'WARNING');
+            exit;
+        }
+    }
+
+    try {
+        $client = new TimezoneClient(API_BASE_URL, API_TIMEOUT);
+        $response = $client->getTimezones($locations);
+
+        logMessage("Requisição em lote para " . count($locations) . " localidades", 'INFO');
+
+        // O backend rejeita um lote inválido (400) com uma lista de um único item de status ERROR, sem localidade
+        if (count($response) === 1 && isset($response[0]['status']) && $response[0]['status'] === 'ERROR'
+                && !isset($response[0]['location'])) {
+            http_response_code(400);
+            header('Cache-Control: no-store');
+            echo json_encode($response[0]);
+            logMessage("Lote rejeitado pelo backend: " . ($response[0]['message'] ?? ''), 'WARNING');
+            exit;
+        }
+
+        $failed = isset($response['status']) && $response['status'] === 'ERROR';
+        http_response_code($failed ? 502 : 200);
+        // Os horários valem até o próximo segundo (mesma política do backend)
+        header($failed ? 'Cache-Control: no-store' : 'Cache-Control: public, max-age=1');
+        echo json_encode($response);
+
+    } catch (Exception $e) {
+        http_response_code(500);
+        echo json_encode([
+            'status' => 'ERROR',
+            'message' => 'Erro ao processar requisição: ' . $e->getMessage()
+        ]);
+        logMessage("Exceção capturada: " . $e->getMessage(), 'ERROR');
+    }
+    exit;
+}
+
 // Obter parâmetro de localidade
 $location = isset($_GET['location']) ? $_GET['location'] : '';
 
@@ -77,6 +136,13 @@ try {
         http_response_code(404);
     }
 
+    // A hora vale até o próximo segundo: navegador e CDN podem reutilizar a resposta (mesma política do backend)
+    if (isset($response['status']) && $response['status'] !== 'ERROR') {
+        header('Cache-Control: public, max-age=1');
+    } else {
+        header('Cache-Control: no-store');
+    }
+
     echo json_encode($response);
 
 } catch (Exception $e) {
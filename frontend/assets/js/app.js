@@ -11,6 +11,9 @@ document.addEventListener('DOMContentLoaded', function() {
     const resultSection = document.getElementById('resultSection');
     const errorMessage = document.getElementById('errorMessage');
 
+    // Stream de relógio da localidade exibida (uma conexão por vez)
+    let clockStream = null;
+
     // Event listeners
     searchButton.addEventListener('click', handleSearch);
     locationInput.addEventListener('keypress', function(event) {
@@ -33,6 +36,7 @@ document.addEventListener('DOMContentLoaded', function() {
 
         // Limpar mensagens anteriores
         clearMessages();
+        stopClockStream();
 
         // Mostrar loading
         showLoading(true);
@@ -44,6 +48,7 @@ document.addEventListener('DOMContentLoaded', function() {
 
                 if (data.status === 'SUCCESS') {
                     displayResult(data);
+                    startClockStream(location);
                 } else {
                     showError(data.message || 'Localidade não encontrada');
                 }
@@ -95,29 +100,54 @@ document.addEventListener('DOMContentLoaded', function() {
         console.log('Resultado obtido:', data);
     }
 
+    /**
+     * Assina o stream de relógio do backend para atualizar a hora exibida a cada segundo,
+     * sem novas requisições à API
+     * 
+     * @param {string} location Nome da localidade
+     */
+    function startClockStream(location) {
+        if (!window.EventSource || !window.HORATIME_STREAM_URL) {
+            return;
+        }
+
+        clockStream = new EventSource(window.HORATIME_STREAM_URL + '?location=' + encodeURIComponent(location));
+        clockStream.addEventListener('tick', function(event) {
+            const tick = JSON.parse(event.data);
+            document.getElementById('resultTime').textContent = formatTime(tick.currentTime);
+            document.getElementById('resultOffset').textContent = tick.utcOffset;
+        });
+        clockStream.addEventListener('error', function() {
+            // Erro definitivo (ex: localidade recusada): o navegador não reconecta
+            if (clockStream && clockStream.readyState === EventSource.CLOSED) {
+                stopClockStream();
+            }
+        });
+    }
+
+    /**
+     * Encerra o stream de relógio atual, se houver
+     */
+    function stopClockStream() {
+        if (clockStream) {
+            clockStream.close();
+            clockStream = null;
+        }
+    }
+
     /**
      * Formata a hora para exibição
      * 
-     * @param {string} timeString Hora em formato ISO
+     * @param {string} timeString Hora local da localidade em formato ISO (yyyy-MM-ddTHH:mm:ss)
      * @returns {string} Hora formatada
      */
     function formatTime(timeString) {
         if (!timeString) return 'N/A';
 
-        try {
-            // Criar objeto Date a partir da string ISO
-            const date = new Date(timeString + 'Z'); // Adicionar Z para indicar UTC
-            
-            // Formatar hora
-            const hours = String(date.getHours()).padStart(2, '0');
-            const minutes = String(date.getMinutes()).padStart(2, '0');
-            const seconds = String(date.getSeconds()).padStart(2, '0');
-
-            return `${hours}:${minutes}:${seconds}`;
-        } catch (error) {
-            console.error('Erro ao formatar hora:', error);
-            return timeString;
-        }
+        // A API já retorna a hora local da localidade: converter para Date aplicaria
+        // o fuso do navegador, então a parte HH:mm:ss é usada diretamente
+        const match = /T(\d{2}:\d{2}:\d{2})/.exec(timeString);
+        return match ? match[1] : timeString;
     }
 
     /**
@@ -71,6 +71,47 @@ class TimezoneClient {
         }
     }
 
+    /**
+     * Obtém a hora atual de várias localidades em uma única requisição
+     * 
+     * @param array $locations Lista de nomes de cidades ou países
+     * @return array Lista de respostas decodificadas da API ou array de erro
+     */
+    public function getTimezones(array $locations) {
+        // Validar entrada
+        if (empty($locations)) {
+            return [
+                'status' => 'ERROR',
+                'message' => 'Lista de localidades não pode estar vazia'
+            ];
+        }
+
+        try {
+            $url = $this->apiBaseUrl . '/api/timezone/batch';
+
+            // Realizar requisição HTTP POST com a lista em JSON
+            $response = $this->makeRequest($url, json_encode(array_values($locations)));
+
+            // Decodificar resposta JSON
+            $data = json_decode($response, true);
+
+            if (json_last_error() !== JSON_ERROR_NONE) {
+                return [
+                    'status' => 'ERROR',
+                    'message' => 'Erro ao decodificar resposta da API: ' . json_last_error_msg()
+                ];
+            }
+
+            return $data;
+
+        } catch (Exception $e) {
+            return [
+                'status' => 'ERROR',
+                'message' => 'Erro ao comunicar com a API: ' . $e->getMessage()
+            ];
+        }
+    }
+
     /**
      * Verifica o status da API (health check)
      * 
@@ -101,46 +142,70 @@ class TimezoneClient {
     }
 
     /**
-     * Realiza uma requisição HTTP GET
+     * Realiza uma requisição HTTP GET (ou POST quando um corpo é informado)
      * 
      * @param string $url URL para requisição
+     * @param string|null $body Corpo JSON da requisição (null para GET)
      * @return string Resposta da requisição
      * @throws Exception Se houver erro na requisição
      */
-    private function makeRequest($url) {
+    private function makeRequest($url, $body = null) {
         // Usar cURL se disponível
         if (function_exists('curl_init')) {
-            return $this->makeRequestWithCurl($url);
+            return $this->makeRequestWithCurl($url, $body);
         }
         // Fallback para file_get_contents
         else if (ini_get('allow_url_fopen')) {
-            return $this->makeRequestWithFileGetContents($url);
+            return $this->makeRequestWithFileGetContents($url, $body);
         }
         else {
             throw new Exception('Nenhum método de requisição HTTP disponível (cURL ou allow_url_fopen)');
         }
     }
 
+    /**
+     * Monta os cabeçalhos enviados ao backend
+     * 
+     * Inclui o endereço do usuário em X-Forwarded-For: o backend limita as requisições
+     * por cliente e, sem ele, todos os usuários do frontend dividiriam o mesmo limite
+     * (o backend só aceita o cabeçalho vindo de horatime.admission.trusted-proxies).
+     * 
+     * @return array Linhas de cabeçalho HTTP
+     */
+    private function requestHeaders() {
+        $headers = [
+            'Content-Type: application/json',
+            'Accept: application/json'
+        ];
+        if (!empty($_SERVER['REMOTE_ADDR'])) {
+            $headers[] = 'X-Forwarded-For: ' . $_SERVER['REMOTE_ADDR'];
+        }
+        return $headers;
+    }
+
     /**
      * Realiza requisição HTTP usando cURL
      * 
      * @param string $url URL para requisição
+     * @param string|null $body Corpo JSON da requisição (null para GET)
      * @return string Resposta da requisição
      * @throws Exception Se houver erro
      */
-    private function makeRequestWithCurl($url) {
+    private function makeRequestWithCurl($url, $body = null) {
         $curl = curl_init();
 
         curl_setopt_array($curl, [
             CURLOPT_URL => $url,
             CURLOPT_RETURNTRANSFER => true,
             CURLOPT_TIMEOUT => $this->timeout,
-            CURLOPT_HTTPHEADER => [
-                'Content-Type: application/json',
-                'Accept: application/json'
-            ]
+            CURLOPT_HTTPHEADER => $this->requestHeaders()
         ]);
 
+        if ($body !== null) {
+            curl_setopt($curl, CURLOPT_POST, true);
+            curl_setopt($curl, CURLOPT_POSTFIELDS, $body);
+        }
+
         $response = curl_exec($curl);
         $error = curl_error($curl);
         curl_close($curl);
@@ -156,17 +221,22 @@ class TimezoneClient {
      * Realiza requisição HTTP usando file_get_contents
      * 
      * @param string $url URL para requisição
+     * @param string|null $body Corpo JSON da requisição (null para GET)
      * @return string Resposta da requisição
      * @throws Exception Se houver erro
      */
-    private function makeRequestWithFileGetContents($url) {
-        $context = stream_context_create([
-            'http' => [
-                'method' => 'GET',
-                'timeout' => $this->timeout,
-                'header' => "Content-Type: application/json\r\nAccept: application/json\r\n"
-            ]
-        ]);
+    private function makeRequestWithFileGetContents($url, $body = null) {
+        $options = [
+            'method' => $body === null ? 'GET' : 'POST',
+            'timeout' => $this->timeout,
+            'header' => implode("\r\n", $this->requestHeaders()) . "\r\n"
+        ];
+
+        if ($body !== null) {
+            $options['content'] = $body;
+        }
+
+        $context = stream_context_create(['http' => $options]);
 
         $response = @file_get_contents($url, false, $context);
 
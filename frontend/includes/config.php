@@ -14,6 +14,13 @@ mb_internal_encoding('UTF-8');
 define('API_BASE_URL', 'http://localhost:8080');
 define('API_TIMEOUT', 5);
 
+// Limite de localidades por consulta em lote (deve acompanhar horatime.batch.max-size do backend)
+define('API_BATCH_MAX_SIZE', 100);
+
+// Stream de relógio (Server-Sent Events) acessado diretamente pelo navegador;
+// deve ser um endereço público do backend (o proxy PHP não mantém conexões abertas)
+define('API_STREAM_URL', API_BASE_URL . '/api/timezone/stream');
+
 // Configurações da Aplicação
 define('APP_NAME', 'HoraTime');
 define('APP_VERSION', '1.0.0');
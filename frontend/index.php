@@ -121,6 +121,9 @@ $apiHealthy = $client->isApiHealthy();
     </div>
 
     <!-- JavaScript -->
+    <script>
+        window.HORATIME_STREAM_URL = <?php echo json_encode(API_STREAM_URL); ?>;
+    </script>
     <script src="assets/js/app.js"></script>
 
     <!-- Script para verificar status da API -->